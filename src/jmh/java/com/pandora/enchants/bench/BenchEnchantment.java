@@ -0,0 +1,72 @@
+package com.pandora.enchants.bench;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.enchantments.EnchantmentTarget;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Enchantment returned by the stand-in registry, for the vanilla constants (MENDING...) and
+ * lookups of pandora enchants
+ */
+final class BenchEnchantment extends Enchantment {
+    
+    private final NamespacedKey key;
+    
+    BenchEnchantment(NamespacedKey key) {
+        this.key = key;
+    }
+    
+    @Override
+    public NamespacedKey getKey() {
+        return key;
+    }
+    
+    @Override
+    public String getTranslationKey() {
+        return "enchantment." + key.getNamespace() + "." + key.getKey();
+    }
+    
+    @Override
+    @SuppressWarnings("deprecation")
+    public String getName() {
+        return key.getKey().toUpperCase();
+    }
+    
+    @Override
+    public int getMaxLevel() {
+        return 5;
+    }
+    
+    @Override
+    public int getStartLevel() {
+        return 1;
+    }
+    
+    @Override
+    @SuppressWarnings("deprecation")
+    public EnchantmentTarget getItemTarget() {
+        return EnchantmentTarget.BREAKABLE;
+    }
+    
+    @Override
+    public boolean isTreasure() {
+        return false;
+    }
+    
+    @Override
+    @SuppressWarnings("deprecation")
+    public boolean isCursed() {
+        return false;
+    }
+    
+    @Override
+    public boolean conflictsWith(Enchantment other) {
+        return false;
+    }
+    
+    @Override
+    public boolean canEnchantItem(ItemStack item) {
+        return true;
+    }
+}
@@ -0,0 +1,109 @@
+package com.pandora.enchants.bench;
+
+import com.pandora.enchants.engine.PandoraEnchant;
+import com.pandora.enchants.util.ColorUtil;
+import com.pandora.enchants.util.EnchantmentStorage;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.*;
+
+/**
+ * Items the benchmarks run against, laid out like the ones players actually carry
+ */
+public final class BenchItems {
+    
+    public enum Kind {
+        /** Vanilla item, no meta */
+        PLAIN,
+        /** One enchant record plus its lore line */
+        SINGLE,
+        /** GodSetManager layout: 7 enchants and the long godset lore */
+        GODSET,
+        /** Enchant only in lore, no record (items enchanted before the record format) */
+        LEGACY
+    }
+    
+    public static final String[] GODSET_ENCHANTS = {
+            "shield", "tank", "immortal", "regeneration", "absorption", "thorns", "fire_resistance"
+    };
+    
+    private BenchItems() {
+    }
+    
+    public static ItemStack create(Kind kind) {
+        switch (kind) {
+            case PLAIN:
+                return new ItemStack(Material.DIAMOND_SWORD);
+            case SINGLE:
+                return single("lifesteal", 3);
+            case GODSET:
+                return godset();
+            case LEGACY:
+                return legacy("lifesteal", 3);
+            default:
+                throw new IllegalArgumentException(kind.name());
+        }
+    }
+    
+    public static ItemStack single(String enchant, int level) {
+        return enchanted(Material.DIAMOND_SWORD, enchant, level);
+    }
+    
+    /**
+     * An item with one enchant, the level capped at the enchant's max level
+     */
+    public static ItemStack enchanted(Material type, String enchant, int level) {
+        BenchServer.install();
+        PandoraEnchant pandoraEnchant = BenchServer.enchant(enchant);
+        ItemStack item = new ItemStack(type);
+        EnchantmentStorage.applyEnchant(item, pandoraEnchant, Math.min(level, pandoraEnchant.getMaxLevel()));
+        return item;
+    }
+    
+    public static ItemStack legacy(String enchant, int level) {
+        BenchServer.install();
+        ItemStack item = new ItemStack(Material.DIAMOND_SWORD);
+        ItemMeta meta = item.getItemMeta();
+        meta.setDisplayName(ColorUtil.colorize("&bOld Blade"));
+        meta.setLore(Arrays.asList(
+                EnchantmentStorage.formatLore(BenchServer.enchant(enchant), level, false),
+                ColorUtil.colorize("&8Forged before the update"),
+                ColorUtil.colorize("&7Kills: &f142")));
+        item.setItemMeta(meta);
+        return item;
+    }
+    
+    public static ItemStack godset() {
+        BenchServer.install();
+        ItemStack item = new ItemStack(Material.NETHERITE_CHESTPLATE);
+        ItemMeta meta = item.getItemMeta();
+        meta.setDisplayName(ColorUtil.colorize("&6&lNetherite God Chestplate"));
+        
+        List<String> lore = new ArrayList<>();
+        lore.add(ColorUtil.colorize("&7&m--------------------------------"));
+        lore.add(ColorUtil.colorize("&6&lGODSET ITEM"));
+        lore.add(ColorUtil.colorize("&7&m--------------------------------"));
+        lore.add("");
+        lore.add(ColorUtil.colorize("&6&lEnchantments:"));
+        
+        Map<PandoraEnchant, Integer> enchants = new LinkedHashMap<>();
+        for (String name : GODSET_ENCHANTS) {
+            PandoraEnchant enchant = BenchServer.enchant(name);
+            lore.add(EnchantmentStorage.formatLore(enchant, enchant.getMaxLevel(), true));
+            enchants.put(enchant, enchant.getMaxLevel());
+        }
+        EnchantmentStorage.writeRecord(meta, enchants);
+        
+        lore.add("");
+        lore.add(ColorUtil.colorize("&7This item can have multiple"));
+        lore.add(ColorUtil.colorize("&7custom enchantments!"));
+        lore.add(ColorUtil.colorize("&7&m--------------------------------"));
+        meta.setLore(lore);
+        meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
+        item.setItemMeta(meta);
+        return item;
+    }
+}
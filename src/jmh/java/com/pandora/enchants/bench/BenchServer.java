@@ -0,0 +1,308 @@
+package com.pandora.enchants.bench;
+
+import com.pandora.enchants.PandoraEnchants;
+import com.pandora.enchants.engine.PandoraEnchant;
+import com.pandora.enchants.engine.PandoraEnchantManager;
+import com.pandora.enchants.nms.EnchantmentManager;
+import com.pandora.enchants.util.ConfigManager;
+import com.pandora.enchants.util.EnchantCache;
+import com.pandora.enchants.util.FileManager;
+import com.pandora.enchants.util.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.Server;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.World;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Headless stand-in for the server the benchmarks run against
+ * Installs a proxy Server (logger, item factory, registries), a PandoraEnchants instance that never
+ * went through the plugin loader, config.yml and the real enchantments.yml from the plugin resources
+ * startServices() additionally creates the effect services the way onEnable does, for the replay harness
+ */
+public final class BenchServer {
+    
+    private static final java.util.logging.Logger LOGGER = java.util.logging.Logger.getLogger("BenchServer");
+    private static final Map<NamespacedKey, Enchantment> ENCHANTMENTS = new HashMap<>();
+    private static final Map<UUID, Player> PLAYERS = new LinkedHashMap<>();
+    private static final List<World> WORLDS = new ArrayList<>();
+    
+    private static PandoraEnchants plugin;
+    private static YamlConfiguration config;
+    private static FakeScheduler scheduler;
+    private static boolean servicesStarted;
+    
+    private BenchServer() {
+    }
+    
+    /**
+     * Installs the stand-in and loads the enchantments (once per JVM)
+     */
+    public static synchronized PandoraEnchants install() {
+        if (plugin != null) return plugin;
+        
+        try {
+            scheduler = new FakeScheduler();
+            Bukkit.setServer(proxy(Server.class, BenchServer::server));
+            
+            // JavaPlugin refuses to be created outside a plugin class loader, so skip its constructor
+            PandoraEnchants instance = allocate(PandoraEnchants.class);
+            setField(JavaPlugin.class, instance, "description",
+                    new PluginDescriptionFile("PandoraEnchants", "1.0.0", PandoraEnchants.class.getName()));
+            setField(PandoraEnchants.class, null, "instance", instance);
+            setField(PandoraEnchants.class, instance, "enchantmentManager",
+                    proxy(EnchantmentManager.class, (proxy, method, args) -> defaultValue(method.getReturnType())));
+            
+            config = loadResource("config.yml");
+            config.set("logging.async", false);
+            setField(ConfigManager.class, null, "config", config);
+            Logger.configure();
+            EnchantCache.configure();
+            
+            Map<String, FileConfiguration> files = getField(FileManager.class, null, "configs");
+            files.put("enchantments.yml", loadResource("enchantments.yml"));
+            
+            PandoraEnchantManager manager = new PandoraEnchantManager();
+            setField(PandoraEnchants.class, instance, "enchantManager", manager);
+            plugin = instance;
+            manager.loadEnchantments();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not install the bench server", e);
+        }
+        return plugin;
+    }
+    
+    /**
+     * Changes a config.yml value and re-applies the cache and logging settings
+     */
+    public static void setConfig(String path, Object value) {
+        install();
+        config.set(path, value);
+        Logger.configure();
+        EnchantCache.configure();
+        EnchantCache.clear();
+    }
+    
+    /**
+     * Creates the services of onEnable (profiles, player state, cooldowns, metrics, load governor, effect registry, emitter,
+     * DoT, AoE, explosions, block breaking, magnet)
+     * Listeners built afterwards register their effects; bindEffects() then binds them like the enchant load does
+     */
+    public static synchronized void startServices() {
+        install();
+        if (servicesStarted) return;
+        
+        try {
+            com.pandora.enchants.engine.PlayerProfileManager profileManager = new com.pandora.enchants.engine.PlayerProfileManager();
+            com.pandora.enchants.engine.PlayerStateStore stateStore = new com.pandora.enchants.engine.PlayerStateStore();
+            com.pandora.enchants.effects.CooldownService cooldownService = new com.pandora.enchants.effects.CooldownService();
+            com.pandora.enchants.effects.EffectMetrics effectMetrics = new com.pandora.enchants.effects.EffectMetrics();
+            // The load governor is never started, so runs are not skewed by load shedding
+            com.pandora.enchants.effects.LoadGovernor loadGovernor = new com.pandora.enchants.effects.LoadGovernor();
+            com.pandora.enchants.effects.EffectEmitter effectEmitter =
+                    new com.pandora.enchants.effects.EffectEmitter(effectMetrics, loadGovernor);
+            setField(PandoraEnchants.class, plugin, "profileManager", profileManager);
+            setField(PandoraEnchants.class, plugin, "stateStore", stateStore);
+            setField(PandoraEnchants.class, plugin, "cooldownService", cooldownService);
+            setField(PandoraEnchants.class, plugin, "effectMetrics", effectMetrics);
+            setField(PandoraEnchants.class, plugin, "loadGovernor", loadGovernor);
+            setField(PandoraEnchants.class, plugin, "effectRegistry",
+                    new com.pandora.enchants.effects.EffectRegistry(cooldownService, effectMetrics));
+            setField(PandoraEnchants.class, plugin, "effectEmitter", effectEmitter);
+            setField(PandoraEnchants.class, plugin, "dotManager",
+                    new com.pandora.enchants.effects.DotManager(effectEmitter, effectMetrics));
+            setField(PandoraEnchants.class, plugin, "aoeEngine", new com.pandora.enchants.effects.AoeEngine(loadGovernor));
+            setField(PandoraEnchants.class, plugin, "explosionScheduler",
+                    new com.pandora.enchants.effects.ExplosionScheduler(effectEmitter, effectMetrics));
+            setField(PandoraEnchants.class, plugin, "blockBreakEngine",
+                    new com.pandora.enchants.effects.BlockBreakEngine(effectEmitter, effectMetrics));
+            setField(PandoraEnchants.class, plugin, "magnetService",
+                    new com.pandora.enchants.effects.MagnetService(effectMetrics));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not start the bench services", e);
+        }
+        servicesStarted = true;
+    }
+    
+    /**
+     * Reloads the enchantments so registered effects get bound, then starts the tick services
+     */
+    public static void bindEffects() {
+        startServices();
+        plugin.getEnchantManager().loadEnchantments();
+        plugin.getProfileManager().start();
+        plugin.getCooldownService().start();
+        plugin.getEffectMetrics().start();
+    }
+    
+    public static FakeScheduler scheduler() {
+        install();
+        return scheduler;
+    }
+    
+    public static void addWorld(World world) {
+        WORLDS.add(world);
+    }
+    
+    public static void removeWorld(World world) {
+        WORLDS.remove(world);
+    }
+    
+    public static void addPlayer(Player player) {
+        PLAYERS.put(player.getUniqueId(), player);
+    }
+    
+    public static void removePlayer(Player player) {
+        PLAYERS.remove(player.getUniqueId());
+    }
+    
+    public static PandoraEnchant enchant(String namespacedName) {
+        PandoraEnchant enchant = install().getEnchantManager().getByNamespacedName(namespacedName);
+        if (enchant == null) {
+            throw new IllegalArgumentException("Unknown enchant " + namespacedName);
+        }
+        return enchant;
+    }
+    
+    /**
+     * Creates an interface proxy; Object methods use identity, like most server objects
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(BenchServer.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        switch (method.getName()) {
+                            case "equals":
+                                return proxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            default:
+                                return type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+                        }
+                    }
+                    return handler.invoke(proxy, method, args);
+                });
+    }
+    
+    /**
+     * Value returned by stand-in methods nothing in the plugin relies on
+     */
+    public static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0.0;
+        if (type == float.class) return 0.0f;
+        if (type == char.class) return '\0';
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        return 0;
+    }
+    
+    private static Object server(Object proxy, java.lang.reflect.Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getLogger":
+                return LOGGER;
+            case "getName":
+                return "BenchServer";
+            case "getVersion":
+                return "bench (MC: 1.21)";
+            case "getBukkitVersion":
+                return "1.21-R0.1-SNAPSHOT";
+            case "isPrimaryThread":
+                return true;
+            case "getItemFactory":
+                return FakeItemFactory.INSTANCE;
+            case "getScheduler":
+                return scheduler.asProxy();
+            case "getPluginManager":
+                return proxy(org.bukkit.plugin.PluginManager.class, (p, m, a) -> defaultValue(m.getReturnType()));
+            case "getOnlinePlayers":
+                return Collections.unmodifiableCollection(PLAYERS.values());
+            case "getPlayer":
+                return args[0] instanceof UUID ? PLAYERS.get(args[0]) : null;
+            case "getWorlds":
+                return new ArrayList<>(WORLDS);
+            case "getWorld":
+                for (World world : WORLDS) {
+                    if (world.getUID().equals(args[0]) || world.getName().equals(args[0])) return world;
+                }
+                return null;
+            case "getRegistry":
+                return registry((Class<?>) args[0]);
+            default:
+                return defaultValue(method.getReturnType());
+        }
+    }
+    
+    /**
+     * Enchantment lookups resolve to stand-in enchantments (vanilla constants and pandora keys),
+     * every other registry is empty
+     */
+    private static Registry<?> registry(Class<?> type) {
+        boolean enchantments = type == Enchantment.class;
+        return proxy(Registry.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "get":
+                    return enchantments ? enchantment((NamespacedKey) args[0]) : null;
+                case "iterator":
+                    return enchantments ? ENCHANTMENTS.values().iterator() : Collections.emptyIterator();
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+    
+    private static synchronized Enchantment enchantment(NamespacedKey key) {
+        return ENCHANTMENTS.computeIfAbsent(key, BenchEnchantment::new);
+    }
+    
+    private static YamlConfiguration loadResource(String name) {
+        InputStream in = PandoraEnchants.class.getClassLoader().getResourceAsStream(name);
+        if (in == null) {
+            throw new IllegalStateException("Missing plugin resource " + name + " (run the build first)");
+        }
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return YamlConfiguration.loadConfiguration(reader);
+        } catch (java.io.IOException e) {
+            throw new IllegalStateException("Could not read " + name, e);
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> T allocate(Class<T> type) throws ReflectiveOperationException {
+        Field field = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+        field.setAccessible(true);
+        Object unsafe = field.get(null);
+        return (T) unsafe.getClass().getMethod("allocateInstance", Class.class).invoke(unsafe, type);
+    }
+    
+    @SuppressWarnings("unchecked")
+    static <T> T getField(Class<?> owner, Object target, String name) throws ReflectiveOperationException {
+        Field field = owner.getDeclaredField(name);
+        field.setAccessible(true);
+        return (T) field.get(target);
+    }
+    
+    static void setField(Class<?> owner, Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = owner.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,91 @@
+package com.pandora.enchants.bench;
+
+import com.pandora.enchants.engine.PandoraEnchant;
+import com.pandora.enchants.util.EnchantmentStorage;
+import org.bukkit.ChatColor;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EnchantmentStorage read and write paths against the stand-in server
+ * Run with: mvn -P benchmarks test-compile exec:exec -Djmh.include=EnchantmentStorage
+ * (the gc profiler is on by default, so results include gc.alloc.rate.norm in bytes per op)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnchantmentStorageBenchmark {
+    
+    private static final MethodHandle PARSE_ENCHANT_FROM_LORE;
+    
+    static {
+        try {
+            PARSE_ENCHANT_FROM_LORE = MethodHandles.privateLookupIn(EnchantmentStorage.class, MethodHandles.lookup())
+                    .findStatic(EnchantmentStorage.class, "parseEnchantFromLore",
+                            MethodType.methodType(PandoraEnchant.class, String.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+    
+    @Param({"PLAIN", "SINGLE", "GODSET", "LEGACY"})
+    public BenchItems.Kind item;
+    
+    @Param({"true", "false"})
+    public boolean cache;
+    
+    private ItemStack stack;
+    private PandoraEnchant enchant;
+    private String loreLine;
+    private int level;
+    
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchServer.install();
+        BenchServer.setConfig("performance.cache_enchantments", cache);
+        
+        stack = BenchItems.create(item);
+        enchant = BenchServer.enchant(item == BenchItems.Kind.GODSET ? BenchItems.GODSET_ENCHANTS[3] : "lifesteal");
+        loreLine = ChatColor.stripColor(EnchantmentStorage.formatLore(enchant, 3, item == BenchItems.Kind.GODSET));
+    }
+    
+    @Benchmark
+    public PandoraEnchant getEnchant() {
+        return EnchantmentStorage.getEnchant(stack);
+    }
+    
+    @Benchmark
+    public List<PandoraEnchant> getAllEnchants() {
+        return EnchantmentStorage.getAllEnchants(stack);
+    }
+    
+    @Benchmark
+    public int getEnchantLevel() {
+        return EnchantmentStorage.getEnchantLevel(stack, enchant);
+    }
+    
+    /**
+     * Re-applies the enchant at alternating levels, an in-place upgrade after the first call
+     * (a plain item becomes a single-enchant one, a legacy item gets its record)
+     */
+    @Benchmark
+    public ItemStack applyEnchant() {
+        level = level == 2 ? 3 : 2;
+        EnchantmentStorage.applyEnchant(stack, enchant, level);
+        return stack;
+    }
+    
+    @Benchmark
+    public PandoraEnchant parseEnchantFromLore() throws Throwable {
+        return (PandoraEnchant) PARSE_ENCHANT_FROM_LORE.invokeExact(loreLine);
+    }
+}
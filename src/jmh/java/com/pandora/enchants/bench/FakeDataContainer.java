@@ -0,0 +1,71 @@
+package com.pandora.enchants.bench;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataContainer;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * In-memory PersistentDataContainer; byte arrays are copied on write and read like the server does
+ */
+final class FakeDataContainer implements InvocationHandler {
+    
+    private final Map<NamespacedKey, Object> values = new HashMap<>();
+    private PersistentDataContainer proxy;
+    
+    PersistentDataContainer asProxy() {
+        if (proxy == null) {
+            proxy = BenchServer.proxy(PersistentDataContainer.class, this);
+        }
+        return proxy;
+    }
+    
+    boolean isEmpty() {
+        return values.isEmpty();
+    }
+    
+    FakeDataContainer copy() {
+        FakeDataContainer copy = new FakeDataContainer();
+        copy.values.putAll(values);
+        return copy;
+    }
+    
+    boolean contentEquals(FakeDataContainer other) {
+        if (!values.keySet().equals(other.values.keySet())) return false;
+        for (Map.Entry<NamespacedKey, Object> entry : values.entrySet()) {
+            if (!Objects.deepEquals(entry.getValue(), other.values.get(entry.getKey()))) return false;
+        }
+        return true;
+    }
+    
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "set":
+                values.put((NamespacedKey) args[0], copyValue(args[2]));
+                return null;
+            case "get":
+                return copyValue(values.get(args[0]));
+            case "getOrDefault":
+                Object value = values.get(args[0]);
+                return value != null ? copyValue(value) : args[2];
+            case "has":
+                return values.containsKey(args[0]);
+            case "remove":
+                values.remove(args[0]);
+                return null;
+            case "isEmpty":
+                return values.isEmpty();
+            case "getKeys":
+                return new HashSet<>(values.keySet());
+            default:
+                return BenchServer.defaultValue(method.getReturnType());
+        }
+    }
+    
+    private static Object copyValue(Object value) {
+        return value instanceof byte[] ? ((byte[]) value).clone() : value;
+    }
+}
@@ -0,0 +1,186 @@
+package com.pandora.enchants.bench;
+
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.*;
+import org.bukkit.util.Vector;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * State behind a fake player, mob or arrow: position, health, flight and equipment
+ * Health never reaches zero (it refills), so long replays keep every entity alive
+ */
+public final class FakeEntity implements InvocationHandler {
+    
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(1000);
+    private static final double MAX_HEALTH = 20.0;
+    
+    private final UUID uuid = UUID.randomUUID();
+    private final int entityId = NEXT_ID.getAndIncrement();
+    private final String name;
+    private final World world;
+    private double x;
+    private double y;
+    private double z;
+    private float yaw;
+    private double health = MAX_HEALTH;
+    private boolean onGround = true;
+    private boolean allowFlight;
+    private boolean flying;
+    private int freezeTicks;
+    private Vector velocity = new Vector();
+    private Entity shooter;
+    private FakeInventory inventory;
+    
+    private FakeEntity(String name, World world, double x, double y, double z) {
+        this.name = name;
+        this.world = world;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+    
+    static Player player(World world, String name, double x, double y, double z) {
+        FakeEntity state = new FakeEntity(name, world, x, y, z);
+        Player player = BenchServer.proxy(Player.class, state);
+        state.inventory = new FakeInventory(player);
+        return player;
+    }
+    
+    static LivingEntity mob(World world, double x, double y, double z) {
+        return BenchServer.proxy(Zombie.class, new FakeEntity("Zombie", world, x, y, z));
+    }
+    
+    /**
+     * An arrow at a position; not added to the world, it only lives for one ProjectileHitEvent
+     */
+    public static Arrow arrow(Player shooter, double x, double y, double z) {
+        FakeEntity state = new FakeEntity("Arrow", shooter.getWorld(), x, y, z);
+        state.shooter = shooter;
+        return BenchServer.proxy(Arrow.class, state);
+    }
+    
+    public static FakeEntity of(Entity entity) {
+        return (FakeEntity) Proxy.getInvocationHandler(entity);
+    }
+    
+    /**
+     * Moves the entity without any event, the replay fires its own PlayerMoveEvent
+     */
+    public void moveTo(double x, double y, double z, boolean onGround) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.onGround = onGround;
+    }
+    
+    public double getX() {
+        return x;
+    }
+    
+    public double getY() {
+        return y;
+    }
+    
+    public double getZ() {
+        return z;
+    }
+    
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getUniqueId":
+                return uuid;
+            case "getEntityId":
+                return entityId;
+            case "getName":
+            case "getDisplayName":
+                return name;
+            case "getWorld":
+                return world;
+            case "getLocation":
+                if (args != null && args.length == 1 && args[0] != null) {
+                    Location loc = (Location) args[0];
+                    loc.setWorld(world);
+                    loc.setX(x);
+                    loc.setY(y);
+                    loc.setZ(z);
+                    loc.setYaw(yaw);
+                    return loc;
+                }
+                return new Location(world, x, y, z, yaw, 0);
+            case "getEyeLocation":
+                return new Location(world, x, y + 1.62, z, yaw, 0);
+            case "teleport":
+                Location target = (Location) args[0];
+                x = target.getX();
+                y = target.getY();
+                z = target.getZ();
+                return true;
+            case "getHealth":
+                return health;
+            case "setHealth":
+                health = (Double) args[0];
+                refill();
+                return null;
+            case "getMaxHealth":
+                return MAX_HEALTH;
+            case "damage":
+                health -= (Double) args[0];
+                refill();
+                return null;
+            case "isValid":
+            case "isOnline":
+                return true;
+            case "isDead":
+                return false;
+            case "isOnGround":
+                return onGround;
+            case "getVelocity":
+                return velocity.clone();
+            case "setVelocity":
+                velocity = ((Vector) args[0]).clone();
+                return null;
+            case "getAllowFlight":
+                return allowFlight;
+            case "setAllowFlight":
+                allowFlight = (Boolean) args[0];
+                if (!allowFlight) flying = false;
+                return null;
+            case "isFlying":
+                return flying;
+            case "setFlying":
+                flying = (Boolean) args[0];
+                return null;
+            case "getGameMode":
+                return GameMode.SURVIVAL;
+            case "getFreezeTicks":
+                return freezeTicks;
+            case "setFreezeTicks":
+                freezeTicks = (Integer) args[0];
+                return null;
+            case "getInventory":
+                return inventory != null ? inventory.inventory() : null;
+            case "getEquipment":
+                return inventory != null ? inventory.equipment() : null;
+            case "getShooter":
+                return shooter;
+            case "hasPermission":
+                return true;
+            default:
+                return BenchServer.defaultValue(method.getReturnType());
+        }
+    }
+    
+    private void refill() {
+        if (health <= 1.0) {
+            health = MAX_HEALTH;
+        }
+    }
+}
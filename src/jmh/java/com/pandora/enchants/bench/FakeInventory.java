@@ -0,0 +1,91 @@
+package com.pandora.enchants.bench;
+
+import org.bukkit.Material;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Equipment of a fake player, served both as its PlayerInventory and its EntityEquipment
+ * Only the equipment slots exist; empty slots hold air like on the server
+ */
+final class FakeInventory implements InvocationHandler {
+    
+    private static final ItemStack AIR = new ItemStack(Material.AIR);
+    
+    private final Map<EquipmentSlot, ItemStack> items = new EnumMap<>(EquipmentSlot.class);
+    private final HumanEntity holder;
+    private final PlayerInventory inventory = BenchServer.proxy(PlayerInventory.class, this);
+    private final EntityEquipment equipment = BenchServer.proxy(EntityEquipment.class, this);
+    
+    FakeInventory(HumanEntity holder) {
+        this.holder = holder;
+    }
+    
+    PlayerInventory inventory() {
+        return inventory;
+    }
+    
+    EntityEquipment equipment() {
+        return equipment;
+    }
+    
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getItem":
+                return args[0] instanceof EquipmentSlot ? get((EquipmentSlot) args[0]) : null;
+            case "setItem":
+                if (args[0] instanceof EquipmentSlot) set((EquipmentSlot) args[0], (ItemStack) args[1]);
+                return null;
+            case "getItemInMainHand":
+                return get(EquipmentSlot.HAND);
+            case "setItemInMainHand":
+                set(EquipmentSlot.HAND, (ItemStack) args[0]);
+                return null;
+            case "getItemInOffHand":
+                return get(EquipmentSlot.OFF_HAND);
+            case "setItemInOffHand":
+                set(EquipmentSlot.OFF_HAND, (ItemStack) args[0]);
+                return null;
+            case "getHelmet":
+                return get(EquipmentSlot.HEAD);
+            case "getChestplate":
+                return get(EquipmentSlot.CHEST);
+            case "getLeggings":
+                return get(EquipmentSlot.LEGS);
+            case "getBoots":
+                return get(EquipmentSlot.FEET);
+            case "getArmorContents":
+                return new ItemStack[]{get(EquipmentSlot.FEET), get(EquipmentSlot.LEGS),
+                        get(EquipmentSlot.CHEST), get(EquipmentSlot.HEAD)};
+            case "getHeldItemSlot":
+                return 0;
+            case "getSize":
+                return 41;
+            case "getHolder":
+                return holder;
+            default:
+                return BenchServer.defaultValue(method.getReturnType());
+        }
+    }
+    
+    private ItemStack get(EquipmentSlot slot) {
+        return items.getOrDefault(slot, AIR);
+    }
+    
+    private void set(EquipmentSlot slot, ItemStack item) {
+        if (item == null || item.getType() == Material.AIR) {
+            items.remove(slot);
+        } else {
+            items.put(slot, item);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.pandora.enchants.bench;
+
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.meta.ItemMeta;
+
+/**
+ * Item factory of the stand-in server; every material uses the same in-memory FakeItemMeta
+ */
+final class FakeItemFactory {
+    
+    static final ItemFactory INSTANCE = BenchServer.proxy(ItemFactory.class, (proxy, method, args) -> {
+        switch (method.getName()) {
+            case "getItemMeta":
+                return FakeItemMeta.create();
+            case "isApplicable":
+                return true;
+            case "equals":
+                return FakeItemMeta.equals((ItemMeta) args[0], (ItemMeta) args[1]);
+            case "asMetaFor":
+                return args[0];
+            case "updateMaterial":
+                return args[1];
+            default:
+                return BenchServer.defaultValue(method.getReturnType());
+        }
+    });
+    
+    private FakeItemFactory() {
+    }
+}
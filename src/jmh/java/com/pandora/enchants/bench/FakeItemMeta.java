@@ -0,0 +1,125 @@
+package com.pandora.enchants.bench;
+
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+/**
+ * In-memory ItemMeta: display name, lore, enchants, item flags and a persistent data container
+ * Lore is copied in and out and clone() copies everything, like the server's meta does, so the
+ * allocation profile of the storage paths stays close to a live server
+ */
+final class FakeItemMeta implements InvocationHandler {
+    
+    private String displayName;
+    private List<String> lore;
+    private final Map<Enchantment, Integer> enchants = new LinkedHashMap<>();
+    private final Set<ItemFlag> flags = EnumSet.noneOf(ItemFlag.class);
+    private final FakeDataContainer data;
+    
+    private FakeItemMeta(FakeDataContainer data) {
+        this.data = data;
+    }
+    
+    static ItemMeta create() {
+        return new FakeItemMeta(new FakeDataContainer()).asProxy();
+    }
+    
+    /**
+     * Whether the meta carries nothing (an ItemStack with empty meta has no meta)
+     */
+    static boolean isEmpty(ItemMeta meta) {
+        if (meta == null) return true;
+        FakeItemMeta state = of(meta);
+        return state.displayName == null && state.lore == null && state.enchants.isEmpty()
+                && state.flags.isEmpty() && state.data.isEmpty();
+    }
+    
+    static boolean equals(ItemMeta a, ItemMeta b) {
+        if (a == null || b == null) return isEmpty(a) && isEmpty(b);
+        FakeItemMeta first = of(a);
+        FakeItemMeta second = of(b);
+        return Objects.equals(first.displayName, second.displayName) && Objects.equals(first.lore, second.lore)
+                && first.enchants.equals(second.enchants) && first.flags.equals(second.flags)
+                && first.data.contentEquals(second.data);
+    }
+    
+    private static FakeItemMeta of(ItemMeta meta) {
+        return (FakeItemMeta) Proxy.getInvocationHandler(meta);
+    }
+    
+    private ItemMeta asProxy() {
+        return BenchServer.proxy(ItemMeta.class, this);
+    }
+    
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "hasDisplayName":
+                return displayName != null;
+            case "getDisplayName":
+                return displayName;
+            case "setDisplayName":
+                displayName = (String) args[0];
+                return null;
+            case "hasLore":
+                return lore != null;
+            case "getLore":
+                return lore == null ? null : new ArrayList<>(lore);
+            case "setLore":
+                List<?> value = (List<?>) args[0];
+                lore = value == null || value.isEmpty() ? null : copyLore(value);
+                return null;
+            case "hasEnchants":
+                return !enchants.isEmpty();
+            case "hasEnchant":
+                return enchants.containsKey(args[0]);
+            case "getEnchantLevel":
+                return enchants.getOrDefault(args[0], 0);
+            case "getEnchants":
+                return Collections.unmodifiableMap(new LinkedHashMap<>(enchants));
+            case "addEnchant":
+                return !Objects.equals(enchants.put((Enchantment) args[0], (Integer) args[1]), args[1]);
+            case "removeEnchant":
+                return enchants.remove(args[0]) != null;
+            case "addItemFlags":
+                flags.addAll(Arrays.asList((ItemFlag[]) args[0]));
+                return null;
+            case "removeItemFlags":
+                flags.removeAll(Arrays.asList((ItemFlag[]) args[0]));
+                return null;
+            case "getItemFlags":
+                return EnumSet.copyOf(flags);
+            case "hasItemFlag":
+                return flags.contains(args[0]);
+            case "getPersistentDataContainer":
+                return data.asProxy();
+            case "clone":
+                return copy().asProxy();
+            default:
+                return BenchServer.defaultValue(method.getReturnType());
+        }
+    }
+    
+    private FakeItemMeta copy() {
+        FakeItemMeta copy = new FakeItemMeta(data.copy());
+        copy.displayName = displayName;
+        copy.lore = lore == null ? null : new ArrayList<>(lore);
+        copy.enchants.putAll(enchants);
+        copy.flags.addAll(flags);
+        return copy;
+    }
+    
+    private static List<String> copyLore(List<?> lines) {
+        List<String> copy = new ArrayList<>(lines.size());
+        for (Object line : lines) {
+            copy.add(String.valueOf(line));
+        }
+        return copy;
+    }
+}
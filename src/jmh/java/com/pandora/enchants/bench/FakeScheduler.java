@@ -0,0 +1,134 @@
+package com.pandora.enchants.bench;
+
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Scheduler of the stand-in server, driven by tick() instead of a server thread
+ * Async tasks run on the next tick like sync ones, the benchmarks are single threaded
+ */
+public final class FakeScheduler implements InvocationHandler {
+    
+    private final List<Task> tasks = new ArrayList<>();
+    private final List<Task> due = new ArrayList<>();
+    private final BukkitScheduler proxy = BenchServer.proxy(BukkitScheduler.class, this);
+    private long currentTick;
+    private int nextId = 1;
+    
+    BukkitScheduler asProxy() {
+        return proxy;
+    }
+    
+    public long getCurrentTick() {
+        return currentTick;
+    }
+    
+    public int getPendingCount() {
+        return tasks.size();
+    }
+    
+    /**
+     * Runs one server tick: every task due this tick, in the order they were scheduled
+     */
+    public void tick() {
+        currentTick++;
+        for (Task task : tasks) {
+            if (task.nextRun <= currentTick) due.add(task);
+        }
+        
+        for (Task task : due) {
+            if (task.cancelled) continue;
+            task.runnable.run();
+            if (task.period > 0) {
+                task.nextRun = currentTick + task.period;
+            } else {
+                task.cancelled = true;
+            }
+        }
+        due.clear();
+        tasks.removeIf(task -> task.cancelled);
+    }
+    
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        String name = method.getName();
+        if (name.equals("cancelTask")) {
+            int id = (Integer) args[0];
+            for (Task task : tasks) {
+                if (task.id == id) task.cancelled = true;
+            }
+            return null;
+        }
+        if (name.equals("cancelTasks")) {
+            tasks.forEach(task -> task.cancelled = true);
+            return null;
+        }
+        if (!name.startsWith("run") && !name.startsWith("schedule")) {
+            return BenchServer.defaultValue(method.getReturnType());
+        }
+        
+        // (plugin, task[, delay[, period]])
+        long delay = args.length > 2 ? (Long) args[2] : 0L;
+        long period = args.length > 3 ? (Long) args[3] : -1L;
+        Task task = new Task(nextId++, currentTick + Math.max(1L, delay), period);
+        task.runnable = runnable(args[1], task);
+        tasks.add(task);
+        
+        if (method.getReturnType() == int.class) return task.id;
+        return method.getReturnType() == void.class ? null : task.asProxy();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Runnable runnable(Object value, Task task) {
+        if (value instanceof Runnable) return (Runnable) value;
+        if (value instanceof Consumer) {
+            Consumer<BukkitTask> consumer = (Consumer<BukkitTask>) value;
+            return () -> consumer.accept(task.asProxy());
+        }
+        throw new IllegalArgumentException("Unsupported task " + value);
+    }
+    
+    private static final class Task {
+        private final int id;
+        private final long period;
+        private long nextRun;
+        private boolean cancelled;
+        private Runnable runnable;
+        private BukkitTask proxy;
+        
+        private Task(int id, long nextRun, long period) {
+            this.id = id;
+            this.nextRun = nextRun;
+            this.period = period;
+        }
+        
+        private BukkitTask asProxy() {
+            if (proxy == null) {
+                proxy = BenchServer.proxy(BukkitTask.class, (p, method, args) -> {
+                    switch (method.getName()) {
+                        case "getTaskId":
+                            return id;
+                        case "isCancelled":
+                            return cancelled;
+                        case "cancel":
+                            cancelled = true;
+                            return null;
+                        case "isSync":
+                            return true;
+                        case "getOwner":
+                            return BenchServer.install();
+                        default:
+                            return BenchServer.defaultValue(method.getReturnType());
+                    }
+                });
+            }
+            return proxy;
+        }
+    }
+}
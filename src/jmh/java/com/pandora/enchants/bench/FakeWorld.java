@@ -0,0 +1,186 @@
+package com.pandora.enchants.bench;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * In-memory world: every chunk is loaded, blocks are generated from their coordinates
+ * (stone with a sprinkle of ores) and entities are whatever was spawned through it
+ */
+public final class FakeWorld implements InvocationHandler {
+    
+    private final String name;
+    private final UUID uid = UUID.randomUUID();
+    private final List<Player> players = new ArrayList<>();
+    private final List<Entity> entities = new ArrayList<>();
+    private final World proxy = BenchServer.proxy(World.class, this);
+    
+    public FakeWorld(String name) {
+        this.name = name;
+    }
+    
+    public World asProxy() {
+        return proxy;
+    }
+    
+    public Player spawnPlayer(String playerName, double x, double y, double z) {
+        Player player = FakeEntity.player(proxy, playerName, x, y, z);
+        players.add(player);
+        entities.add(player);
+        return player;
+    }
+    
+    public LivingEntity spawnMob(double x, double y, double z) {
+        LivingEntity mob = FakeEntity.mob(proxy, x, y, z);
+        entities.add(mob);
+        return mob;
+    }
+    
+    public void remove(Entity entity) {
+        players.remove(entity);
+        entities.remove(entity);
+    }
+    
+    /**
+     * Block type at a position: mostly stone, iron and coal ore on a fixed pattern
+     */
+    public static Material typeAt(int x, int y, int z) {
+        int hash = (x * 31 + y) * 31 + z;
+        switch (Math.floorMod(hash, 16)) {
+            case 0:
+                return Material.IRON_ORE;
+            case 1:
+                return Material.COAL_ORE;
+            default:
+                return Material.STONE;
+        }
+    }
+    
+    @Override
+    public Object invoke(Object p, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getName":
+                return name;
+            case "getUID":
+                return uid;
+            case "getPlayers":
+                return new ArrayList<>(players);
+            case "getEntities":
+                return new ArrayList<>(entities);
+            case "getLivingEntities":
+                List<LivingEntity> living = new ArrayList<>();
+                for (Entity entity : entities) {
+                    if (entity instanceof LivingEntity) living.add((LivingEntity) entity);
+                }
+                return living;
+            case "isChunkLoaded":
+                return true;
+            case "getChunkAt":
+                if (args[0] instanceof Location) {
+                    Location loc = (Location) args[0];
+                    return chunk(loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
+                }
+                return chunk((Integer) args[0], (Integer) args[1]);
+            case "getBlockAt":
+                if (args[0] instanceof Location) {
+                    Location loc = (Location) args[0];
+                    return block(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+                }
+                return block((Integer) args[0], (Integer) args[1], (Integer) args[2]);
+            case "getNearbyEntities":
+                return nearby((Location) args[0], (Double) args[1], (Double) args[2], (Double) args[3]);
+            case "createExplosion":
+                return true;
+            case "getMinHeight":
+                return -64;
+            case "getMaxHeight":
+                return 320;
+            default:
+                return BenchServer.defaultValue(method.getReturnType());
+        }
+    }
+    
+    private List<Entity> nearby(Location center, double dx, double dy, double dz) {
+        List<Entity> found = new ArrayList<>();
+        Location loc = new Location(proxy, 0, 0, 0);
+        for (Entity entity : entities) {
+            entity.getLocation(loc);
+            if (Math.abs(loc.getX() - center.getX()) <= dx && Math.abs(loc.getY() - center.getY()) <= dy
+                    && Math.abs(loc.getZ() - center.getZ()) <= dz) {
+                found.add(entity);
+            }
+        }
+        return found;
+    }
+    
+    private Chunk chunk(int chunkX, int chunkZ) {
+        return BenchServer.proxy(Chunk.class, (c, method, args) -> {
+            switch (method.getName()) {
+                case "getX":
+                    return chunkX;
+                case "getZ":
+                    return chunkZ;
+                case "getWorld":
+                    return proxy;
+                case "isLoaded":
+                    return true;
+                case "getEntities":
+                    List<Entity> inChunk = new ArrayList<>();
+                    Location loc = new Location(proxy, 0, 0, 0);
+                    for (Entity entity : entities) {
+                        entity.getLocation(loc);
+                        if (loc.getBlockX() >> 4 == chunkX && loc.getBlockZ() >> 4 == chunkZ) {
+                            inChunk.add(entity);
+                        }
+                    }
+                    return inChunk.toArray(new Entity[0]);
+                default:
+                    return BenchServer.defaultValue(method.getReturnType());
+            }
+        });
+    }
+    
+    Block block(int x, int y, int z) {
+        Material type = typeAt(x, y, z);
+        return BenchServer.proxy(Block.class, (b, method, args) -> {
+            switch (method.getName()) {
+                case "getType":
+                    return type;
+                case "getX":
+                    return x;
+                case "getY":
+                    return y;
+                case "getZ":
+                    return z;
+                case "getWorld":
+                    return proxy;
+                case "getLocation":
+                    if (args != null && args.length == 1 && args[0] != null) {
+                        Location loc = (Location) args[0];
+                        loc.setWorld(proxy);
+                        loc.setX(x);
+                        loc.setY(y);
+                        loc.setZ(z);
+                        return loc;
+                    }
+                    return new Location(proxy, x, y, z);
+                case "getDrops":
+                    return Collections.emptyList();
+                case "isEmpty":
+                    return false;
+                default:
+                    return BenchServer.defaultValue(method.getReturnType());
+            }
+        });
+    }
+}
@@ -0,0 +1,350 @@
+package com.pandora.enchants.bench;
+
+import com.pandora.enchants.PandoraEnchants;
+import com.pandora.enchants.effects.EnchantEffectHandler;
+import com.pandora.enchants.listeners.DoubleJumpListener;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.damage.DamageSource;
+import org.bukkit.entity.Arrow;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.ProjectileHitEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerToggleFlightEvent;
+import org.bukkit.inventory.EquipmentSlot;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Replays a synthetic event stream into EnchantEffectHandler and DoubleJumpListener on the stand-in
+ * server, and reports per handler: throughput, p50/p99 latency and bytes allocated per event
+ * Run with: mvn -P benchmarks test-compile exec:exec@replay
+ * (-Dreplay.players=50,200,500 -Dreplay.ticks=600 -Dreplay.warmup=200, results in target/replay-result.csv)
+ *
+ * Every tick each player moves, with a jump every 24 ticks (a third of them double jump);
+ * fighters hit their mob or an arena neighbour every 10 ticks and get hit back, miners break a block
+ * every 5 ticks and archers land an arrow every 20 ticks. Scheduled tasks (effect flushes, DoTs,
+ * explosions, double jump arming) run after each tick and are reported as their own row.
+ * Events are built outside the timed section; multi-block tools are left out since they need real terrain
+ */
+public final class ReplayHarness {
+    
+    private static final String[] SWORD_ENCHANTS = {
+            "lifesteal", "critical", "cleave", "venom", "bleed", "rage", "vampire", "execute"
+    };
+    private static final String[] ARMOR_ENCHANTS = {"thorns", "shield", "tank"};
+    private static final String[] PICKAXE_ENCHANTS = {"autosmelt", "experience"};
+    private static final String[] BOW_ENCHANTS = {"explosive", "poison_arrow"};
+    
+    private static final int ARENA_SIZE = 10;
+    private static final double ARENA_SPACING = 96.0;
+    private static final double GROUND = 64.0;
+    private static final double[] JUMP_ARC = {0.42, 0.75, 1.0, 1.17, 1.25, 1.17, 1.0, 0.75, 0.42, 0.0};
+    private static final int JUMP_CYCLE = 24;
+    private static final int JUMP_START = 12;
+    
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final DamageSource DAMAGE_SOURCE =
+            BenchServer.proxy(DamageSource.class, (proxy, method, args) -> BenchServer.defaultValue(method.getReturnType()));
+    
+    private enum Kind {
+        HIT("onEntityDamage (on hit)"),
+        DAMAGED("onEntityDamage (damaged)"),
+        BREAK("onBlockBreak"),
+        PROJECTILE("onProjectileHit"),
+        MOVE("onPlayerMove (double jump)"),
+        TOGGLE_FLIGHT("onPlayerToggleFlight (double jump)"),
+        TICK("scheduled tasks (per tick)");
+        
+        private final String label;
+        
+        Kind(String label) {
+            this.label = label;
+        }
+    }
+    
+    private enum Role {
+        FIGHTER,
+        MINER,
+        ARCHER
+    }
+    
+    private final EnchantEffectHandler handler;
+    private final DoubleJumpListener doubleJump;
+    private final Random random = new Random(42);
+    private final Stats[] stats = new Stats[Kind.values().length];
+    private boolean recording;
+    
+    private ReplayHarness(EnchantEffectHandler handler, DoubleJumpListener doubleJump) {
+        this.handler = handler;
+        this.doubleJump = doubleJump;
+    }
+    
+    public static void main(String[] args) throws IOException {
+        int[] playerCounts = Arrays.stream(System.getProperty("replay.players", "50,200,500").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).toArray();
+        int ticks = Integer.getInteger("replay.ticks", 600);
+        int warmup = Integer.getInteger("replay.warmup", 200);
+        Path out = Paths.get(System.getProperty("replay.out", "target/replay-result.csv"));
+        
+        // Same order as onEnable: services, listeners (register effects), then the enchant load binds them
+        BenchServer.startServices();
+        EnchantEffectHandler handler = new EnchantEffectHandler();
+        DoubleJumpListener doubleJump = new DoubleJumpListener();
+        BenchServer.bindEffects();
+        
+        ReplayHarness harness = new ReplayHarness(handler, doubleJump);
+        List<String> csv = new ArrayList<>();
+        csv.add("players,handler,events,events_per_sec,p50_ns,p99_ns,bytes_per_event");
+        for (int players : playerCounts) {
+            harness.run(players, warmup, ticks, csv);
+        }
+        
+        if (out.getParent() != null) Files.createDirectories(out.getParent());
+        Files.write(out, csv);
+        System.out.println("Results written to " + out.toAbsolutePath());
+    }
+    
+    private void run(int playerCount, int warmup, int ticks, List<String> csv) {
+        FakeWorld fakeWorld = new FakeWorld("replay_" + playerCount);
+        World world = fakeWorld.asProxy();
+        BenchServer.addWorld(world);
+        
+        Player[] players = new Player[playerCount];
+        Role[] roles = new Role[playerCount];
+        LivingEntity[] mobs = new LivingEntity[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            double x = (i / ARENA_SIZE) * ARENA_SPACING + (i % ARENA_SIZE) * 2.0;
+            double z = random.nextDouble() * 4.0;
+            players[i] = fakeWorld.spawnPlayer("player" + i, x, GROUND, z);
+            roles[i] = i % 20 < 12 ? Role.FIGHTER : i % 20 < 17 ? Role.MINER : Role.ARCHER;
+            equip(players[i], roles[i], i);
+            mobs[i] = fakeWorld.spawnMob(x + 1.5, GROUND, z);
+            BenchServer.addPlayer(players[i]);
+        }
+        
+        for (Kind kind : Kind.values()) {
+            stats[kind.ordinal()] = new Stats();
+        }
+        
+        recording = false;
+        for (int tick = 0; tick < warmup; tick++) {
+            tick(tick, world, players, roles, mobs);
+        }
+        recording = true;
+        for (int tick = warmup; tick < warmup + ticks; tick++) {
+            tick(tick, world, players, roles, mobs);
+        }
+        recording = false;
+        
+        report(playerCount, csv);
+        
+        // Players leave like on a real server, then pending DoTs and explosions drain
+        PandoraEnchants plugin = PandoraEnchants.getInstance();
+        for (Player player : players) {
+            PlayerQuitEvent quit = new PlayerQuitEvent(player, (String) null);
+            handler.onPlayerQuit(quit);
+            plugin.getProfileManager().onQuit(quit);
+            plugin.getStateStore().onQuit(quit);
+            plugin.getCooldownService().onQuit(quit);
+            BenchServer.removePlayer(player);
+            fakeWorld.remove(player);
+        }
+        for (int tick = 0; tick < 200; tick++) {
+            BenchServer.scheduler().tick();
+        }
+        BenchServer.removeWorld(world);
+    }
+    
+    private void tick(int tick, World world, Player[] players, Role[] roles, LivingEntity[] mobs) {
+        for (int i = 0; i < players.length; i++) {
+            Player player = players[i];
+            move(player, tick + i * 7);
+            
+            switch (roles[i]) {
+                case FIGHTER:
+                    if ((tick + i) % 10 == 0) {
+                        Entity target = mobs[i];
+                        if (i % 5 == 0 && i + 1 < players.length && (i + 1) / ARENA_SIZE == i / ARENA_SIZE) {
+                            target = players[i + 1];
+                        }
+                        damage(player, target, 6.0);
+                        // The mob hits back, armor enchants of the player react
+                        damage(mobs[i], player, 3.0);
+                    }
+                    break;
+                case MINER:
+                    if ((tick + i) % 5 == 0) {
+                        FakeEntity state = FakeEntity.of(player);
+                        Block block = world.getBlockAt((int) state.getX() + 1, (int) GROUND - 1 - (tick / 5) % 8,
+                                (int) state.getZ());
+                        fire(Kind.BREAK, new BlockBreakEvent(block, player));
+                    }
+                    break;
+                case ARCHER:
+                    if ((tick + i) % 20 == 0) {
+                        boolean hit = random.nextBoolean();
+                        Location at = hit ? mobs[i].getLocation() : player.getLocation().add(10, 0, 0);
+                        Arrow arrow = FakeEntity.arrow(player, at.getX(), at.getY(), at.getZ());
+                        fire(Kind.PROJECTILE, new ProjectileHitEvent(arrow, hit ? mobs[i] : null));
+                    }
+                    break;
+            }
+        }
+        
+        long start = System.nanoTime();
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        BenchServer.scheduler().tick();
+        record(Kind.TICK, System.nanoTime() - start, THREADS.getCurrentThreadAllocatedBytes() - allocated);
+    }
+    
+    /**
+     * Walks back and forth, with a jump arc every JUMP_CYCLE ticks
+     */
+    private void move(Player player, int step) {
+        FakeEntity state = FakeEntity.of(player);
+        int phase = step % JUMP_CYCLE;
+        double x = state.getX() + (phase % 2 == 0 ? 0.2 : -0.2);
+        double y = GROUND;
+        boolean onGround = true;
+        if (phase >= JUMP_START && phase < JUMP_START + JUMP_ARC.length) {
+            y = GROUND + JUMP_ARC[phase - JUMP_START];
+            onGround = phase == JUMP_START + JUMP_ARC.length - 1;
+        }
+        
+        World world = player.getWorld();
+        Location from = new Location(world, state.getX(), state.getY(), state.getZ());
+        Location to = new Location(world, x, y, state.getZ());
+        state.moveTo(x, y, state.getZ(), onGround);
+        fire(Kind.MOVE, new PlayerMoveEvent(player, from, to));
+        
+        // A third of the jumps use the double jump once it is armed
+        if (phase == JUMP_START + 4 && (step / JUMP_CYCLE) % 3 == 0) {
+            fire(Kind.TOGGLE_FLIGHT, new PlayerToggleFlightEvent(player, true));
+        }
+    }
+    
+    private void damage(Entity damager, Entity target, double amount) {
+        EntityDamageByEntityEvent event = new EntityDamageByEntityEvent(damager, target,
+                EntityDamageEvent.DamageCause.ENTITY_ATTACK, DAMAGE_SOURCE, amount);
+        // Bukkit calls both handlers for the same event object
+        fire(Kind.HIT, event);
+        fire(Kind.DAMAGED, event);
+    }
+    
+    private void fire(Kind kind, Event event) {
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        switch (kind) {
+            case HIT:
+                handler.onEntityDamage((EntityDamageByEntityEvent) event);
+                break;
+            case DAMAGED:
+                handler.onEntityDamage((EntityDamageEvent) event);
+                break;
+            case BREAK:
+                handler.onBlockBreak((BlockBreakEvent) event);
+                break;
+            case PROJECTILE:
+                handler.onProjectileHit((ProjectileHitEvent) event);
+                break;
+            case MOVE:
+                doubleJump.onPlayerMove((PlayerMoveEvent) event);
+                break;
+            case TOGGLE_FLIGHT:
+                doubleJump.onPlayerToggleFlight((PlayerToggleFlightEvent) event);
+                break;
+            default:
+                throw new IllegalArgumentException(kind.name());
+        }
+        long elapsed = System.nanoTime() - start;
+        record(kind, elapsed, THREADS.getCurrentThreadAllocatedBytes() - allocated);
+    }
+    
+    private void record(Kind kind, long nanos, long bytes) {
+        if (recording) {
+            stats[kind.ordinal()].add(nanos, bytes);
+        }
+    }
+    
+    private void equip(Player player, Role role, int index) {
+        switch (role) {
+            case FIGHTER:
+                player.getEquipment().setItem(EquipmentSlot.HAND, BenchItems.enchanted(Material.DIAMOND_SWORD,
+                        SWORD_ENCHANTS[index % SWORD_ENCHANTS.length], 3));
+                break;
+            case MINER:
+                player.getEquipment().setItem(EquipmentSlot.HAND, BenchItems.enchanted(Material.DIAMOND_PICKAXE,
+                        PICKAXE_ENCHANTS[index % PICKAXE_ENCHANTS.length], 3));
+                break;
+            case ARCHER:
+                player.getEquipment().setItem(EquipmentSlot.HAND, BenchItems.enchanted(Material.BOW,
+                        BOW_ENCHANTS[index % BOW_ENCHANTS.length], 3));
+                break;
+        }
+        
+        // A quarter of the players wear a godset chestplate
+        player.getEquipment().setItem(EquipmentSlot.CHEST, index % 4 == 0 ? BenchItems.godset()
+                : BenchItems.enchanted(Material.DIAMOND_CHESTPLATE, ARMOR_ENCHANTS[index % ARMOR_ENCHANTS.length], 3));
+        player.getEquipment().setItem(EquipmentSlot.FEET, BenchItems.enchanted(Material.DIAMOND_BOOTS, "double_jump", 2));
+    }
+    
+    private void report(int playerCount, List<String> csv) {
+        System.out.println();
+        System.out.printf("%d players%n", playerCount);
+        System.out.printf("%-38s %10s %12s %10s %10s %10s%n", "handler", "events", "events/s", "p50 us", "p99 us", "B/event");
+        for (Kind kind : Kind.values()) {
+            Stats stat = stats[kind.ordinal()];
+            if (stat.count == 0) continue;
+            
+            long p50 = stat.percentile(0.50);
+            long p99 = stat.percentile(0.99);
+            double perSecond = stat.count / (stat.totalNanos / 1_000_000_000.0);
+            double bytes = (double) stat.totalBytes / stat.count;
+            System.out.printf("%-38s %10d %12.0f %10.2f %10.2f %10.0f%n", kind.label, stat.count, perSecond,
+                    p50 / 1000.0, p99 / 1000.0, bytes);
+            csv.add(String.format(Locale.ROOT, "%d,%s,%d,%.0f,%d,%d,%.0f", playerCount, kind.label, stat.count,
+                    perSecond, p50, p99, bytes));
+        }
+    }
+    
+    /**
+     * Latency samples and allocation totals of one handler
+     */
+    private static final class Stats {
+        private long[] samples = new long[4096];
+        private int count;
+        private long totalNanos;
+        private long totalBytes;
+        
+        private void add(long nanos, long bytes) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+            totalNanos += nanos;
+            totalBytes += bytes;
+        }
+        
+        private long percentile(double fraction) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return sorted[Math.min(count - 1, (int) Math.ceil(fraction * count) - 1)];
+        }
+    }
+}
@@ -22,6 +22,19 @@ public class PandoraEnchants extends JavaPlugin {
     private static PandoraEnchants instance;
     private EnchantmentManager enchantmentManager;
     private PandoraEnchantManager enchantManager;
+    private com.pandora.enchants.engine.PlayerProfileManager profileManager;
+    private com.pandora.enchants.engine.PlayerStateStore stateStore;
+    private com.pandora.enchants.effects.CooldownService cooldownService;
+    private com.pandora.enchants.effects.EffectMetrics effectMetrics;
+    private com.pandora.enchants.effects.LoadGovernor loadGovernor;
+    private com.pandora.enchants.effects.EffectRegistry effectRegistry;
+    private com.pandora.enchants.effects.PassiveEffectScheduler passiveScheduler;
+    private com.pandora.enchants.effects.EffectEmitter effectEmitter;
+    private com.pandora.enchants.effects.DotManager dotManager;
+    private com.pandora.enchants.effects.AoeEngine aoeEngine;
+    private com.pandora.enchants.effects.ExplosionScheduler explosionScheduler;
+    private com.pandora.enchants.effects.BlockBreakEngine blockBreakEngine;
+    private com.pandora.enchants.effects.MagnetService magnetService;
     
     private static final Pattern VERSION_PATTERN = Pattern.compile("\\(MC: (?<version>[\\d]+\\.[\\d]+(\\.[\\d]+)?)\\)");
     
@@ -53,6 +66,18 @@ public class PandoraEnchants extends JavaPlugin {
         
         // Initialize enchant manager
         enchantManager = new PandoraEnchantManager();
+        profileManager = new com.pandora.enchants.engine.PlayerProfileManager();
+        stateStore = new com.pandora.enchants.engine.PlayerStateStore();
+        cooldownService = new com.pandora.enchants.effects.CooldownService();
+        effectMetrics = new com.pandora.enchants.effects.EffectMetrics();
+        effectRegistry = new com.pandora.enchants.effects.EffectRegistry(cooldownService, effectMetrics);
+        loadGovernor = new com.pandora.enchants.effects.LoadGovernor();
+        effectEmitter = new com.pandora.enchants.effects.EffectEmitter(effectMetrics, loadGovernor);
+        dotManager = new com.pandora.enchants.effects.DotManager(effectEmitter, effectMetrics);
+        aoeEngine = new com.pandora.enchants.effects.AoeEngine(loadGovernor);
+        explosionScheduler = new com.pandora.enchants.effects.ExplosionScheduler(effectEmitter, effectMetrics);
+        blockBreakEngine = new com.pandora.enchants.effects.BlockBreakEngine(effectEmitter, effectMetrics);
+        magnetService = new com.pandora.enchants.effects.MagnetService(effectMetrics);
         
         // Register commands
         PandoraEnchantCommand command = new PandoraEnchantCommand();
@@ -60,16 +85,29 @@ public class PandoraEnchants extends JavaPlugin {
         getCommand("pandoraenchant").setTabCompleter(command);
         
         // Register listeners
+        Bukkit.getPluginManager().registerEvents(profileManager, this);
+        Bukkit.getPluginManager().registerEvents(stateStore, this);
+        Bukkit.getPluginManager().registerEvents(cooldownService, this);
         Bukkit.getPluginManager().registerEvents(new EnchantTableListener(), this);
         Bukkit.getPluginManager().registerEvents(new ItemEnchantListener(), this);
         Bukkit.getPluginManager().registerEvents(new com.pandora.enchants.listeners.AnvilEnchantListener(), this);
         Bukkit.getPluginManager().registerEvents(new com.pandora.enchants.gui.GUIListener(), this);
         Bukkit.getPluginManager().registerEvents(new com.pandora.enchants.listeners.DoubleJumpListener(), this);
+        passiveScheduler = new com.pandora.enchants.effects.PassiveEffectScheduler(effectRegistry, loadGovernor);
         Bukkit.getPluginManager().registerEvents(new com.pandora.enchants.effects.EnchantEffectHandler(), this);
+        Bukkit.getPluginManager().registerEvents(passiveScheduler, this);
+        Bukkit.getPluginManager().registerEvents(magnetService, this);
         Bukkit.getPluginManager().registerEvents(new com.pandora.enchants.listeners.EnchantBookListener(), this);
+        Bukkit.getPluginManager().registerEvents(new com.pandora.enchants.listeners.MigrationListener(), this);
         
         // Load enchantments
         enchantManager.loadEnchantments();
+        profileManager.start();
+        cooldownService.start();
+        effectMetrics.start();
+        loadGovernor.start();
+        passiveScheduler.start();
+        magnetService.start();
         
         Logger.info("PandoraEnchants has been enabled!");
     }
@@ -78,10 +116,64 @@ public class PandoraEnchants extends JavaPlugin {
     public void onDisable() {
         Logger.info("Disabling PandoraEnchants");
         
+        com.pandora.enchants.util.EnchantMigration.shutdown();
+        
+        if (passiveScheduler != null) {
+            passiveScheduler.shutdown();
+        }
+        
+        if (loadGovernor != null) {
+            loadGovernor.shutdown();
+        }
+        
+        if (dotManager != null) {
+            dotManager.shutdown();
+        }
+        
+        if (aoeEngine != null) {
+            aoeEngine.shutdown();
+        }
+        
+        if (explosionScheduler != null) {
+            explosionScheduler.shutdown();
+        }
+        
+        if (cooldownService != null) {
+            cooldownService.shutdown();
+        }
+        
+        if (blockBreakEngine != null) {
+            blockBreakEngine.shutdown();
+        }
+        
+        if (magnetService != null) {
+            magnetService.shutdown();
+        }
+        
+        if (effectEmitter != null) {
+            effectEmitter.shutdown();
+        }
+        
+        if (effectMetrics != null) {
+            effectMetrics.shutdown();
+        }
+        
+        if (profileManager != null) {
+            profileManager.shutdown();
+        }
+        
+        if (stateStore != null) {
+            stateStore.shutdown();
+        }
+        
         if (enchantmentManager != null) {
             enchantmentManager.cleanup();
         }
         
+        // Pending config saves are written before the plugin goes away
+        com.pandora.enchants.util.FileManager.flush();
+        
+        Logger.shutdown();
         instance = null;
     }
     
@@ -97,6 +189,58 @@ public class PandoraEnchants extends JavaPlugin {
         return enchantManager;
     }
     
+    public com.pandora.enchants.engine.PlayerProfileManager getProfileManager() {
+        return profileManager;
+    }
+    
+    public com.pandora.enchants.engine.PlayerStateStore getStateStore() {
+        return stateStore;
+    }
+    
+    public com.pandora.enchants.effects.CooldownService getCooldownService() {
+        return cooldownService;
+    }
+    
+    public com.pandora.enchants.effects.EffectMetrics getEffectMetrics() {
+        return effectMetrics;
+    }
+    
+    public com.pandora.enchants.effects.LoadGovernor getLoadGovernor() {
+        return loadGovernor;
+    }
+    
+    public com.pandora.enchants.effects.EffectRegistry getEffectRegistry() {
+        return effectRegistry;
+    }
+    
+    public com.pandora.enchants.effects.PassiveEffectScheduler getPassiveScheduler() {
+        return passiveScheduler;
+    }
+    
+    public com.pandora.enchants.effects.EffectEmitter getEffectEmitter() {
+        return effectEmitter;
+    }
+    
+    public com.pandora.enchants.effects.DotManager getDotManager() {
+        return dotManager;
+    }
+    
+    public com.pandora.enchants.effects.AoeEngine getAoeEngine() {
+        return aoeEngine;
+    }
+    
+    public com.pandora.enchants.effects.ExplosionScheduler getExplosionScheduler() {
+        return explosionScheduler;
+    }
+    
+    public com.pandora.enchants.effects.BlockBreakEngine getBlockBreakEngine() {
+        return blockBreakEngine;
+    }
+    
+    public com.pandora.enchants.effects.MagnetService getMagnetService() {
+        return magnetService;
+    }
+    
     private String getMinecraftVersion() {
         String bukkitVersion = Bukkit.getVersion();
         Matcher matcher = VERSION_PATTERN.matcher(bukkitVersion);
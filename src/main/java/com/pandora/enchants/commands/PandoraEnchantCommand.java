@@ -64,6 +64,10 @@ public class PandoraEnchantCommand implements CommandExecutor, TabCompleter {
                 return handleGodSet(sender, args);
             case "godkit":
                 return handleGodKit(sender, args);
+            case "migrate":
+                return handleMigrate(sender, args);
+            case "stats":
+                return handleStats(sender, args);
             default:
                 sendHelp(sender);
                 return true;
@@ -127,6 +131,7 @@ public class PandoraEnchantCommand implements CommandExecutor, TabCompleter {
         
         // Apply enchant using lore-based storage
         com.pandora.enchants.util.EnchantmentStorage.applyEnchant(item, enchant, level);
+        PandoraEnchants.getInstance().getProfileManager().markDirty(player);
         
         player.sendMessage(ColorUtil.format(
                 ColorUtil.text("Added ") + ColorUtil.highlight(enchant.getName() + " " + PandoraEnchant.getLevelRoman(level))
@@ -160,6 +165,7 @@ public class PandoraEnchantCommand implements CommandExecutor, TabCompleter {
         }
         
         com.pandora.enchants.util.EnchantmentStorage.removeEnchant(item);
+        PandoraEnchants.getInstance().getProfileManager().markDirty(player);
         player.sendMessage(ColorUtil.format(ColorUtil.text("Removed custom enchant from your item!")));
         
         return true;
@@ -243,8 +249,71 @@ public class PandoraEnchantCommand implements CommandExecutor, TabCompleter {
     }
     
     private boolean handleReload(CommandSender sender) {
-        PandoraEnchants.getInstance().getEnchantManager().reload();
-        sender.sendMessage(ColorUtil.format(ColorUtil.text("Reloaded all enchantments!")));
+        PandoraEnchants.getInstance().getEnchantManager().reload(loaded -> {
+            if (loaded) {
+                sender.sendMessage(ColorUtil.format(ColorUtil.text("Reloaded all enchantments!")));
+            } else {
+                sender.sendMessage(ColorUtil.error("Could not read enchantments.yml, the loaded enchantments were kept. See the console for details."));
+            }
+        });
+        return true;
+    }
+    
+    private boolean handleStats(CommandSender sender, String[] args) {
+        com.pandora.enchants.effects.EffectMetrics metrics = PandoraEnchants.getInstance().getEffectMetrics();
+        if (args.length >= 2 && args[1].equalsIgnoreCase("reset")) {
+            metrics.reset();
+            sender.sendMessage(ColorUtil.format(ColorUtil.text("Effect metrics reset.")));
+            return true;
+        }
+        if (args.length >= 2 && args[1].equalsIgnoreCase("dump")) {
+            metrics.dump(true);
+            sender.sendMessage(ColorUtil.format(ColorUtil.text("Writing metrics.csv and metrics.json to the plugin folder...")));
+            return true;
+        }
+        
+        sender.sendMessage(ColorUtil.header("=== PandoraEnchants Stats ==="));
+        for (String line : com.pandora.enchants.util.EnchantCache.getStats()) {
+            sender.sendMessage(ColorUtil.text(line));
+        }
+        sender.sendMessage(ColorUtil.text("Player state: "
+                + PandoraEnchants.getInstance().getStateStore().size() + " entries"));
+        sender.sendMessage(ColorUtil.text(PandoraEnchants.getInstance().getLoadGovernor().getStatus()));
+        com.pandora.enchants.effects.EffectEmitter emitter = PandoraEnchants.getInstance().getEffectEmitter();
+        sender.sendMessage(ColorUtil.text("Particles and sounds: " + emitter.getEmittedCount() + " sent, "
+                + emitter.getDroppedCount() + " dropped"));
+        com.pandora.enchants.effects.AoeEngine aoe = PandoraEnchants.getInstance().getAoeEngine();
+        sender.sendMessage(ColorUtil.text("Area strikes: " + aoe.getStrikeCount() + ", "
+                + aoe.getCappedCount() + " capped at max_targets"));
+        sender.sendMessage(ColorUtil.text("Tracked: " + PandoraEnchants.getInstance().getMagnetService().getTrackedCount()
+                + " items (magnet), " + PandoraEnchants.getInstance().getCooldownService().getTrackedCount()
+                + " players (cooldowns), " + PandoraEnchants.getInstance().getBlockBreakEngine().getActiveJobs()
+                + " block break jobs"));
+        com.pandora.enchants.effects.ExplosionScheduler explosions = PandoraEnchants.getInstance().getExplosionScheduler();
+        sender.sendMessage(ColorUtil.text("Explosions: " + explosions.getDetonatedCount() + " detonated, "
+                + explosions.getMergedCount() + " merged, " + explosions.getDroppedCount() + " dropped, "
+                + explosions.getPendingCount() + " pending"));
+        
+        // Slowest enchants first; "all" lists every enchant that ran
+        boolean all = args.length >= 2 && args[1].equalsIgnoreCase("all");
+        for (String line : metrics.getStats(all ? 0 : 8)) {
+            sender.sendMessage(ColorUtil.text(line));
+        }
+        return true;
+    }
+    
+    private boolean handleMigrate(CommandSender sender, String[] args) {
+        if (args.length >= 2 && args[1].equalsIgnoreCase("status")) {
+            sender.sendMessage(ColorUtil.format(ColorUtil.text(com.pandora.enchants.util.EnchantMigration.getStatus())));
+            return true;
+        }
+        
+        if (!com.pandora.enchants.util.EnchantMigration.startSweep(sender)) {
+            sender.sendMessage(ColorUtil.error("A migration sweep is already running! Use /pe migrate status"));
+            return true;
+        }
+        
+        sender.sendMessage(ColorUtil.format(ColorUtil.text("Started migrating legacy enchanted items in loaded chunks...")));
         return true;
     }
     
@@ -619,6 +688,8 @@ public class PandoraEnchantCommand implements CommandExecutor, TabCompleter {
         helpLines.add(ColorUtil.text("/pe book list [page]") + " - List all enchantments for books");
         helpLines.add(ColorUtil.text("/pe godset <iron|diamond|netherite>") + " - &6&lSpawn godset (multiple enchants!)");
         helpLines.add(ColorUtil.text("/pe godkit give <player> <tier>") + " - &6&lGive godset to player");
+        helpLines.add(ColorUtil.text("/pe stats [all|reset|dump]") + " - Show cache and performance statistics");
+        helpLines.add(ColorUtil.text("/pe migrate [status]") + " - Convert legacy lore enchants to the new format");
         
         // Send in pages if needed
         int itemsPerPage = 10;
@@ -637,7 +708,7 @@ public class PandoraEnchantCommand implements CommandExecutor, TabCompleter {
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
         if (args.length == 1) {
-            List<String> completions = new ArrayList<>(Arrays.asList("add", "remove", "info", "list", "reload", "editor", "edit", "book", "givebook", "godset", "godkit"));
+            List<String> completions = new ArrayList<>(Arrays.asList("add", "remove", "info", "list", "reload", "editor", "edit", "book", "givebook", "godset", "godkit", "migrate", "stats"));
             String input = args[0].toLowerCase();
             completions.removeIf(s -> !s.toLowerCase().startsWith(input));
             return completions;
@@ -650,6 +721,12 @@ public class PandoraEnchantCommand implements CommandExecutor, TabCompleter {
             if (args[0].equalsIgnoreCase("godkit")) {
                 return Arrays.asList("give");
             }
+            if (args[0].equalsIgnoreCase("migrate")) {
+                return Arrays.asList("status");
+            }
+            if (args[0].equalsIgnoreCase("stats")) {
+                return Arrays.asList("all", "reset", "dump");
+            }
         }
         
         if (args.length == 3) {
@@ -0,0 +1,196 @@
+package com.pandora.enchants.effects;
+
+import com.pandora.enchants.PandoraEnchants;
+import com.pandora.enchants.util.ConfigManager;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * Area damage for enchants (cleave...)
+ * Living entities are collected per chunk once per tick and reused by every AoE in that chunk,
+ * each strike hits at most performance.aoe.max_targets entities (closest first), and damage dealt
+ * by a strike is flagged so it does not trigger on-hit enchants again
+ */
+public class AoeEngine {
+    
+    private static final LivingEntity[] NONE = new LivingEntity[0];
+    
+    private final LoadGovernor governor;
+    private final Map<UUID, Map<Long, LivingEntity[]>> cache = new HashMap<>();
+    private final Location entityLoc = new Location(null, 0, 0, 0);
+    private LivingEntity[] candidates = new LivingEntity[32];
+    private double[] distances = new double[32];
+    private int depth;
+    private BukkitTask clearTask;
+    private long strikes;
+    private long capped;
+    
+    public AoeEngine(LoadGovernor governor) {
+        this.governor = governor;
+    }
+    
+    /**
+     * Damages living entities within radius of center (a cube, like getNearbyEntities),
+     * except the attacker and the excluded entity (usually the entity that was hit)
+     * Returns the entities damaged
+     */
+    public List<LivingEntity> strike(Player attacker, Entity exclude, Location center, double radius, double damage) {
+        World world = center.getWorld();
+        if (world == null) return Collections.emptyList();
+        
+        int count = collect(world, attacker, exclude, center, radius);
+        // Fewer targets while the load governor sheds optional work
+        int max = governor.limitTargets(ConfigManager.getAoeMaxTargets());
+        if (count > max) {
+            capped++;
+            select(count, max);
+            count = max;
+        }
+        
+        // Copied out first, damage events may run another strike
+        List<LivingEntity> hit = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LivingEntity target = candidates[i];
+            candidates[i] = null;
+            if (target.isValid() && !target.isDead()) {
+                hit.add(target);
+            }
+        }
+        
+        strikes++;
+        depth++;
+        try {
+            for (LivingEntity target : hit) {
+                target.damage(damage, attacker);
+            }
+        } finally {
+            depth--;
+        }
+        return hit;
+    }
+    
+    /**
+     * Whether AoE damage is being dealt right now (damage events fired from inside a strike)
+     */
+    public boolean isApplying() {
+        return depth > 0;
+    }
+    
+    public long getStrikeCount() {
+        return strikes;
+    }
+    
+    /**
+     * Strikes that found more targets than max_targets
+     */
+    public long getCappedCount() {
+        return capped;
+    }
+    
+    public void shutdown() {
+        if (clearTask != null) {
+            clearTask.cancel();
+            clearTask = null;
+        }
+        cache.clear();
+        Arrays.fill(candidates, null);
+    }
+    
+    private int collect(World world, Player attacker, Entity exclude, Location center, double radius) {
+        double cx = center.getX();
+        double cy = center.getY();
+        double cz = center.getZ();
+        int minChunkX = floor(cx - radius) >> 4, maxChunkX = floor(cx + radius) >> 4;
+        int minChunkZ = floor(cz - radius) >> 4, maxChunkZ = floor(cz + radius) >> 4;
+        
+        int count = 0;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                for (LivingEntity entity : entitiesIn(world, chunkX, chunkZ)) {
+                    if (entity == attacker || entity == exclude) continue;
+                    
+                    entity.getLocation(entityLoc);
+                    double dx = entityLoc.getX() - cx;
+                    double dy = entityLoc.getY() - cy;
+                    double dz = entityLoc.getZ() - cz;
+                    if (Math.abs(dx) > radius || Math.abs(dy) > radius || Math.abs(dz) > radius) continue;
+                    
+                    if (count == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, count * 2);
+                        distances = Arrays.copyOf(distances, count * 2);
+                    }
+                    candidates[count] = entity;
+                    distances[count] = dx * dx + dy * dy + dz * dz;
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Moves the max closest candidates to the front (partial selection sort, max is small)
+     */
+    private void select(int count, int max) {
+        for (int i = 0; i < max; i++) {
+            int closest = i;
+            for (int j = i + 1; j < count; j++) {
+                if (distances[j] < distances[closest]) closest = j;
+            }
+            if (closest != i) {
+                LivingEntity entity = candidates[i];
+                candidates[i] = candidates[closest];
+                candidates[closest] = entity;
+                double distance = distances[i];
+                distances[i] = distances[closest];
+                distances[closest] = distance;
+            }
+        }
+        for (int i = max; i < count; i++) {
+            candidates[i] = null;
+        }
+    }
+    
+    /**
+     * Living entities of a loaded chunk, cached until the end of the tick
+     */
+    private LivingEntity[] entitiesIn(World world, int chunkX, int chunkZ) {
+        Map<Long, LivingEntity[]> worldCache = cache.computeIfAbsent(world.getUID(), k -> new HashMap<>());
+        long key = ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+        LivingEntity[] entities = worldCache.get(key);
+        if (entities != null) return entities;
+        
+        if (!world.isChunkLoaded(chunkX, chunkZ)) {
+            entities = NONE;
+        } else {
+            List<LivingEntity> living = new ArrayList<>();
+            for (Entity entity : world.getChunkAt(chunkX, chunkZ).getEntities()) {
+                if (entity instanceof LivingEntity) {
+                    living.add((LivingEntity) entity);
+                }
+            }
+            entities = living.toArray(NONE);
+        }
+        worldCache.put(key, entities);
+        
+        if (clearTask == null) {
+            clearTask = Bukkit.getScheduler().runTask(PandoraEnchants.getInstance(), () -> {
+                clearTask = null;
+                cache.clear();
+            });
+        }
+        return entities;
+    }
+    
+    private static int floor(double value) {
+        int i = (int) value;
+        return value < i ? i - 1 : i;
+    }
+}
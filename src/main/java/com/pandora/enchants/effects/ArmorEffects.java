@@ -0,0 +1,116 @@
+package com.pandora.enchants.effects;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Vector;
+
+import java.util.*;
+
+/**
+ * Passive armor enchant effects, run by PassiveEffectScheduler (PASSIVE)
+ * Armor enchants without a passive behaviour (night_vision, gears, reflex...) are not registered
+ */
+public class ArmorEffects {
+    
+    private final Random random = new Random();
+    private final MagnetService magnetService;
+    private final CooldownService cooldowns;
+    private final PassiveEffectScheduler scheduler;
+    
+    public ArmorEffects(MagnetService magnetService, CooldownService cooldowns, PassiveEffectScheduler scheduler) {
+        this.magnetService = magnetService;
+        this.cooldowns = cooldowns;
+        this.scheduler = scheduler;
+    }
+    
+    public void register(EffectRegistry registry) {
+        registry.register("regeneration", EffectTrigger.PASSIVE, this::regeneration);
+        registry.register("water_walker", EffectTrigger.PASSIVE, this::waterWalker);
+        registry.register("auto_feed", EffectTrigger.PASSIVE, this::autoFeed);
+        registry.register("magnet", EffectTrigger.PASSIVE, this::magnet);
+    }
+    
+    private void regeneration(Player player, int level, Void event) {
+        // 8% per level was rolled on every move packet, roll it once for each tick since the last run
+        int ticks = scheduler.getInterval("regeneration");
+        double chance = 1.0 - Math.pow(1.0 - Math.min(1.0, 0.08 * level), ticks);
+        if (player.getHealth() < player.getMaxHealth() && random.nextDouble() < chance) {
+            cooldowns.proc();
+            double heal = 0.5 + (level * 0.25); // Much stronger healing
+            double newHealth = Math.min(player.getHealth() + heal, player.getMaxHealth());
+            player.setHealth(newHealth);
+            // No particles/sounds on passive regen
+        }
+    }
+    
+    private void waterWalker(Player player, int level, Void event) {
+        Location loc = player.getLocation();
+        if (player.isInWater() || loc.getBlock().getType() == Material.WATER ||
+            loc.getBlock().getType() == Material.WATER_CAULDRON) {
+            // Keep player on water surface
+            if (loc.getY() % 1.0 < 0.1) {
+                Vector velocity = player.getVelocity();
+                if (velocity.getY() < 0) {
+                    cooldowns.proc();
+                    velocity.setY(0);
+                    player.setVelocity(velocity);
+                }
+            }
+            // No particles/sounds on passive
+        }
+    }
+    
+    private void autoFeed(Player player, int level, Void event) {
+        // Feeding frequency is limited by the auto_feed cooldown (cooldown_ticks)
+        // Check if player needs food
+        int foodLevel = player.getFoodLevel();
+        if (foodLevel >= 20) return;
+        
+        // Find food in inventory
+        ItemStack[] contents = player.getInventory().getContents();
+        for (ItemStack item : contents) {
+            if (item != null && item.getType().isEdible()) {
+                // Consume food
+                int amount = item.getAmount();
+                if (amount > 1) {
+                    item.setAmount(amount - 1);
+                } else {
+                    player.getInventory().removeItem(item);
+                }
+                
+                // Apply food effect
+                int foodValue = getFoodValue(item.getType());
+                int newFoodLevel = Math.min(foodLevel + foodValue, 20);
+                player.setFoodLevel(newFoodLevel);
+                
+                // No visual feedback on passive auto-feed
+                
+                cooldowns.proc();
+                return;
+            }
+        }
+    }
+    
+    private void magnet(Player player, int level, Void event) {
+        // Items are looked up per chunk section and pulled on the next tick, no particles/sounds
+        if (magnetService.pull(player, level)) {
+            cooldowns.proc();
+        }
+    }
+    
+    private int getFoodValue(Material food) {
+        switch (food) {
+            case BREAD: case COOKED_PORKCHOP: case COOKED_BEEF: case COOKED_CHICKEN:
+            case COOKED_MUTTON: case COOKED_RABBIT: case BAKED_POTATO:
+                return 5;
+            case APPLE: case GOLDEN_CARROT: case COOKED_COD: case COOKED_SALMON:
+                return 4;
+            case CARROT: case POTATO: case BEETROOT:
+                return 3;
+            default:
+                return 2;
+        }
+    }
+}
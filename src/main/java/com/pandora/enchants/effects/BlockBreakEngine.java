@@ -0,0 +1,379 @@
+package com.pandora.enchants.effects;
+
+import com.pandora.enchants.PandoraEnchants;
+import com.pandora.enchants.engine.EnchantSet;
+import com.pandora.enchants.util.ConfigManager;
+import com.pandora.enchants.util.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Chest;
+import org.bukkit.block.ShulkerBox;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.BlockInventoryHolder;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Breaks the extra blocks of vein_miner, lumberjack, tunnel and jackhammer over several ticks
+ * The chunks holding the blocks are captured as snapshots and searched off the main thread
+ * (BlockDiscovery); connected searches start from the broken block's chunk and only capture a
+ * neighbour when the fill reaches it. The main thread then only re-checks and breaks the
+ * returned positions, spending at most performance.multi_block.tick_budget_us per tick across all jobs.
+ * Drops go through a DropCollector per chunk (merged, autosmelted, telekinesis) and are
+ * delivered with the particles at the end of each tick
+ */
+public class BlockBreakEngine {
+    
+    // Connected searches only look this far (in blocks) from the broken block
+    private static final int SEARCH_RADIUS = 16;
+    
+    private final EffectEmitter emitter;
+    private final EffectMetrics metrics;
+    private final List<Job> jobs = new ArrayList<>();
+    private final List<Job> discovering = new ArrayList<>();
+    private int generation;
+    private int cursor;
+    private BukkitTask task;
+    
+    public BlockBreakEngine(EffectEmitter emitter, EffectMetrics metrics) {
+        this.emitter = emitter;
+        this.metrics = metrics;
+    }
+    
+    /**
+     * Breaks blocks connected (26 neighbours) to a just-broken block while they match,
+     * up to limit blocks including the start block
+     * Returns false if the player or server job cap is reached
+     */
+    public boolean breakConnected(Player player, Block start, Predicate<Material> matcher, int limit) {
+        if (!canStart(player)) return false;
+        
+        World world = start.getWorld();
+        long origin = pack(start.getX(), start.getY(), start.getZ());
+        Map<Long, ChunkSnapshot> snapshots = capture(world, start.getX(), start.getZ(), start.getX(), start.getZ());
+        
+        Job job = new Job(player, world, matcher);
+        BlockDiscovery discovery = new BlockDiscovery(snapshots, world.getMinHeight(), world.getMaxHeight());
+        BlockDiscovery.Fill fill = discovery.connected(origin, matcher, limit);
+        int minChunkX = (start.getX() - SEARCH_RADIUS) >> 4, maxChunkX = (start.getX() + SEARCH_RADIUS) >> 4;
+        int minChunkZ = (start.getZ() - SEARCH_RADIUS) >> 4, maxChunkZ = (start.getZ() + SEARCH_RADIUS) >> 4;
+        discover(job, fill::run, () -> {
+            for (long key : fill.getMissing()) {
+                int chunkX = (int) (key >> 32);
+                int chunkZ = (int) key;
+                // Out of range or unloaded chunks are stored as null and never asked for again
+                boolean inRange = chunkX >= minChunkX && chunkX <= maxChunkX && chunkZ >= minChunkZ && chunkZ <= maxChunkZ;
+                snapshots.put(key, inRange && world.isChunkLoaded(chunkX, chunkZ)
+                        ? world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false) : null);
+            }
+        });
+        return true;
+    }
+    
+    /**
+     * Breaks a fixed list of positions (packed with pack), skipping air and bedrock
+     * Returns false if the player or server job cap is reached
+     */
+    public boolean breakBlocks(Player player, World world, long[] positions) {
+        if (positions.length == 0 || !canStart(player)) return false;
+        
+        int minX = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        for (long pos : positions) {
+            minX = Math.min(minX, unpackX(pos));
+            maxX = Math.max(maxX, unpackX(pos));
+            minZ = Math.min(minZ, unpackZ(pos));
+            maxZ = Math.max(maxZ, unpackZ(pos));
+        }
+        Map<Long, ChunkSnapshot> snapshots = capture(world, minX, minZ, maxX, maxZ);
+        
+        Job job = new Job(player, world, null);
+        BlockDiscovery discovery = new BlockDiscovery(snapshots, world.getMinHeight(), world.getMaxHeight());
+        discover(job, () -> discovery.breakable(positions), null);
+        return true;
+    }
+    
+    /**
+     * Cancels every job of a player (called on quit)
+     */
+    public void cancel(UUID playerId) {
+        discovering.removeIf(job -> job.playerId.equals(playerId));
+        jobs.removeIf(job -> {
+            if (!job.playerId.equals(playerId)) return false;
+            job.flush(emitter);
+            return true;
+        });
+    }
+    
+    public int getActiveJobs() {
+        return jobs.size() + discovering.size();
+    }
+    
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        // Searches still running off-thread are dropped when they report back
+        generation++;
+        jobs.clear();
+        discovering.clear();
+    }
+    
+    /**
+     * Packs block coordinates into a long (26 bits x, 26 bits z, 12 bits y)
+     */
+    public static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+    
+    static int unpackX(long pos) {
+        return (int) (pos >> 38);
+    }
+    
+    static int unpackY(long pos) {
+        return (int) (pos << 52 >> 52);
+    }
+    
+    static int unpackZ(long pos) {
+        return (int) (pos << 26 >> 38);
+    }
+    
+    static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+    
+    static boolean isBreakable(Material type) {
+        return !type.isAir() && type != Material.BEDROCK;
+    }
+    
+    private boolean canStart(Player player) {
+        if (getActiveJobs() >= ConfigManager.getMultiBlockMaxJobs()) return false;
+        
+        int perPlayer = 0;
+        for (Job job : jobs) {
+            if (job.playerId.equals(player.getUniqueId())) perPlayer++;
+        }
+        for (Job job : discovering) {
+            if (job.playerId.equals(player.getUniqueId())) perPlayer++;
+        }
+        return perPlayer < ConfigManager.getMultiBlockMaxJobsPerPlayer();
+    }
+    
+    /**
+     * Snapshots the loaded chunks covering a block area (never loads chunks)
+     */
+    private Map<Long, ChunkSnapshot> capture(World world, int minX, int minZ, int maxX, int maxZ) {
+        Map<Long, ChunkSnapshot> snapshots = new HashMap<>();
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                if (world.isChunkLoaded(chunkX, chunkZ)) {
+                    snapshots.put(chunkKey(chunkX, chunkZ),
+                            world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false));
+                }
+            }
+        }
+        return snapshots;
+    }
+    
+    /**
+     * Runs a search off the main thread, then queues its positions for breaking
+     * A search returns null when it needs more chunks; capture then runs on the main thread
+     * and the search is resumed (capture is null for searches that never do)
+     */
+    private void discover(Job job, Supplier<long[]> search, Runnable capture) {
+        discovering.add(job);
+        search(job, generation, search, capture);
+    }
+    
+    private void search(Job job, int started, Supplier<long[]> search, Runnable capture) {
+        PandoraEnchants plugin = PandoraEnchants.getInstance();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            long[] positions;
+            try {
+                positions = search.get();
+            } catch (Exception e) {
+                Logger.error("Error searching blocks for multi-block break: " + e.getMessage());
+                e.printStackTrace();
+                positions = new long[0];
+            }
+            
+            long[] found = positions;
+            if (!plugin.isEnabled()) return;
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                // Cancelled (quit) or engine restarted while searching
+                if (started != generation || !discovering.contains(job)) return;
+                if (found == null) {
+                    capture.run();
+                    search(job, started, search, capture);
+                    return;
+                }
+                discovering.remove(job);
+                if (found.length == 0) return;
+                
+                job.positions = found;
+                jobs.add(job);
+                if (task == null) {
+                    task = Bukkit.getScheduler().runTaskTimer(plugin,
+                            metrics.timed(EffectMetrics.Task.MULTI_BLOCK, this::tick), 1L, 1L);
+                }
+            });
+        });
+    }
+    
+    private void tick() {
+        long deadline = System.nanoTime() + ConfigManager.getMultiBlockTickBudget() * 1000L;
+        boolean progressed = false;
+        
+        try {
+            // Round-robin one block per job so a huge tree can't starve a small vein
+            while (!jobs.isEmpty() && (!progressed || System.nanoTime() < deadline)) {
+                if (cursor >= jobs.size()) cursor = 0;
+                Job job = jobs.get(cursor);
+                
+                if (!step(job)) {
+                    job.flush(emitter);
+                    jobs.remove(cursor);
+                } else {
+                    cursor++;
+                }
+                progressed = true;
+            }
+        } catch (Exception e) {
+            Logger.error("Error running multi-block break: " + e.getMessage());
+            e.printStackTrace();
+            // Blocks broken this tick still hand out what they dropped
+            for (Job job : jobs) {
+                job.flush(emitter);
+            }
+            jobs.clear();
+        }
+        
+        for (Job job : jobs) {
+            job.flush(emitter);
+        }
+        
+        if (jobs.isEmpty() && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+    
+    /**
+     * Breaks the next position of a job; returns false once the job is finished
+     */
+    private boolean step(Job job) {
+        Player player = Bukkit.getPlayer(job.playerId);
+        if (player == null || !player.isOnline() || job.next >= job.positions.length) return false;
+        
+        long pos = job.positions[job.next++];
+        Block block = job.world.getBlockAt(unpackX(pos), unpackY(pos), unpackZ(pos));
+        
+        // The search ran on a snapshot, so confirm the live block still qualifies
+        Material live = block.getType();
+        if (job.accepts(live)) {
+            breakBlock(player, block, live, job);
+        }
+        return job.next < job.positions.length;
+    }
+    
+    private void breakBlock(Player player, Block block, Material type, Job job) {
+        Collection<ItemStack> drops = block.getDrops(job.tool, player);
+        
+        long chunkKey = chunkKey(block.getX() >> 4, block.getZ() >> 4);
+        ChunkBatch batch = job.batches.get(chunkKey);
+        if (batch == null) {
+            batch = new ChunkBatch(block.getLocation().add(0.5, 0.5, 0.5), type);
+            job.batches.put(chunkKey, batch);
+        }
+        
+        // setType skips the block entity's own drop logic, so inventories (containers, jukebox discs,
+        // lectern and bookshelf books, decorated pots) are collected here
+        // (a shulker box drop already carries its contents, a chest only gives its own half)
+        BlockState state = block.getState();
+        if (state instanceof BlockInventoryHolder && !(state instanceof ShulkerBox)) {
+            Inventory inventory = state instanceof Chest ? ((Chest) state).getBlockInventory()
+                    : ((BlockInventoryHolder) state).getInventory();
+            for (ItemStack item : inventory.getContents()) {
+                batch.contents.add(item);
+            }
+            inventory.clear();
+        }
+        
+        block.setType(Material.AIR);
+        batch.broken++;
+        batch.drops.addAll(drops);
+    }
+    
+    private static final class Job {
+        private final UUID playerId;
+        private final World world;
+        private final Predicate<Material> matcher;
+        private final Map<Long, ChunkBatch> batches = new HashMap<>();
+        private final ItemStack tool;
+        private final boolean smelt;
+        private final boolean telekinesis;
+        private long[] positions;
+        private int next;
+        
+        private Job(Player player, World world, Predicate<Material> matcher) {
+            this.playerId = player.getUniqueId();
+            this.world = world;
+            this.matcher = matcher;
+            
+            // Drops follow the tool the break started with, even if the player switches items
+            this.tool = player.getInventory().getItemInMainHand().clone();
+            EnchantSet hand = PandoraEnchants.getInstance().getProfileManager()
+                    .getProfile(player).getEnchants(EquipmentSlot.HAND);
+            this.smelt = hand.getLevel("autosmelt") > 0;
+            this.telekinesis = hand.getLevel("telekinesis") > 0;
+        }
+        
+        private boolean accepts(Material type) {
+            return matcher != null ? matcher.test(type) : isBreakable(type);
+        }
+        
+        /**
+         * Drops this tick's merged items and particles, one batch per chunk
+         */
+        private void flush(EffectEmitter emitter) {
+            if (batches.isEmpty()) return;
+            
+            Player player = Bukkit.getPlayer(playerId);
+            for (ChunkBatch batch : batches.values()) {
+                batch.drops.deliver(player, batch.location, smelt, telekinesis);
+                // Container contents are handed back as they were, never smelted
+                batch.contents.deliver(player, batch.location, false, telekinesis);
+                int particles = Math.max(1, Math.min(16, (int) Math.round(batch.broken * 0.3)));
+                emitter.particle(Particle.BLOCK, batch.location, particles, 0.5, 0.5, 0.5, 0.03,
+                        batch.type.createBlockData());
+            }
+            batches.clear();
+        }
+    }
+    
+    private static final class ChunkBatch {
+        private final Location location;
+        private final Material type;
+        private final DropCollector drops = new DropCollector();
+        private final DropCollector contents = new DropCollector();
+        private int broken;
+        
+        private ChunkBatch(Location location, Material type) {
+            this.location = location;
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.pandora.enchants.effects;
+
+import com.pandora.enchants.util.LongHashSet;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Read-only block search over captured chunk snapshots, safe to run off the main thread
+ * Results are packed coordinates (BlockBreakEngine.pack); chunks captured as null (not loaded,
+ * out of range) count as non-matching, and so do chunks missing from the map for breakable()
+ */
+final class BlockDiscovery {
+    
+    private final Map<Long, ChunkSnapshot> snapshots;
+    private final int minY;
+    private final int maxY;
+    
+    BlockDiscovery(Map<Long, ChunkSnapshot> snapshots, int minY, int maxY) {
+        this.snapshots = snapshots;
+        this.minY = minY;
+        this.maxY = maxY;
+    }
+    
+    /**
+     * Flood-fill (26 neighbours) from an origin through matching blocks, up to limit blocks
+     * including the origin; the origin itself is not part of the result
+     */
+    Fill connected(long origin, Predicate<Material> matcher, int limit) {
+        return new Fill(origin, matcher, limit);
+    }
+    
+    /**
+     * Keeps the positions that hold a breakable block (not air, not bedrock)
+     */
+    long[] breakable(long[] positions) {
+        long[] result = new long[positions.length];
+        int count = 0;
+        
+        for (long pos : positions) {
+            Material type = typeAt(BlockBreakEngine.unpackX(pos), BlockBreakEngine.unpackY(pos),
+                    BlockBreakEngine.unpackZ(pos));
+            if (type != null && BlockBreakEngine.isBreakable(type)) {
+                result[count++] = pos;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+    
+    private Material typeAt(int x, int y, int z) {
+        if (y < minY || y >= maxY) return null;
+        
+        ChunkSnapshot snapshot = snapshots.get(BlockBreakEngine.chunkKey(x >> 4, z >> 4));
+        return snapshot == null ? null : snapshot.getBlockType(x & 15, y, z & 15);
+    }
+    
+    /**
+     * Resumable flood-fill: run() returns null when the fill reached chunks that are not in the
+     * snapshot map yet (getMissing); once the caller put them in (or null), run() picks up there
+     */
+    final class Fill {
+        
+        private final Predicate<Material> matcher;
+        private final int limit;
+        private final LongHashSet visited;
+        private final long[] queue;
+        private int head;
+        private int tail;
+        // Positions whose neighbours reached a missing chunk, expanded again on the next run
+        private long[] deferred = new long[8];
+        private int deferredCount;
+        private long[] missing = new long[8];
+        private int missingCount;
+        
+        private Fill(long origin, Predicate<Material> matcher, int limit) {
+            this.matcher = matcher;
+            this.limit = limit;
+            this.visited = new LongHashSet(limit);
+            this.queue = new long[Math.max(1, limit)];
+            visited.add(origin);
+            queue[tail++] = origin;
+        }
+        
+        long[] run() {
+            long[] retry = Arrays.copyOf(deferred, deferredCount);
+            deferredCount = 0;
+            missingCount = 0;
+            for (long pos : retry) {
+                expand(pos);
+            }
+            while (head < tail && visited.size() < limit) {
+                expand(queue[head++]);
+            }
+            if (missingCount > 0 && visited.size() < limit) return null;
+            
+            // Everything queued except the origin, in breadth-first order
+            return Arrays.copyOfRange(queue, 1, tail);
+        }
+        
+        /**
+         * Chunk keys (BlockBreakEngine.chunkKey) the last run() needed
+         */
+        long[] getMissing() {
+            return Arrays.copyOf(missing, missingCount);
+        }
+        
+        private void expand(long pos) {
+            int x = BlockBreakEngine.unpackX(pos);
+            int y = BlockBreakEngine.unpackY(pos);
+            int z = BlockBreakEngine.unpackZ(pos);
+            boolean deferredPos = false;
+            
+            for (int dx = -1; dx <= 1 && visited.size() < limit; dx++) {
+                for (int dy = -1; dy <= 1 && visited.size() < limit; dy++) {
+                    for (int dz = -1; dz <= 1 && visited.size() < limit; dz++) {
+                        if (dx == 0 && dy == 0 && dz == 0) continue;
+                        
+                        long next = BlockBreakEngine.pack(x + dx, y + dy, z + dz);
+                        if (visited.contains(next)) continue;
+                        
+                        long chunk = BlockBreakEngine.chunkKey((x + dx) >> 4, (z + dz) >> 4);
+                        if (!snapshots.containsKey(chunk)) {
+                            addMissing(chunk);
+                            if (!deferredPos) {
+                                deferred = push(deferred, deferredCount++, pos);
+                                deferredPos = true;
+                            }
+                            continue;
+                        }
+                        
+                        Material type = typeAt(x + dx, y + dy, z + dz);
+                        if (type != null && matcher.test(type)) {
+                            visited.add(next);
+                            queue[tail++] = next;
+                        }
+                    }
+                }
+            }
+        }
+        
+        private void addMissing(long chunk) {
+            for (int i = 0; i < missingCount; i++) {
+                if (missing[i] == chunk) return;
+            }
+            missing = push(missing, missingCount++, chunk);
+        }
+    }
+    
+    private static long[] push(long[] array, int index, long value) {
+        if (index == array.length) {
+            array = Arrays.copyOf(array, array.length * 2);
+        }
+        array[index] = value;
+        return array;
+    }
+}
@@ -0,0 +1,148 @@
+package com.pandora.enchants.effects;
+
+import com.pandora.enchants.PandoraEnchants;
+import com.pandora.enchants.engine.PandoraEnchant;
+import com.pandora.enchants.util.IntObjectMap;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Enchant cooldowns in server ticks (cooldown_ticks in enchantments.yml)
+ * Every player has a long[] slab indexed by enchant id holding the tick the enchant is ready again,
+ * so a check is one array read against the tick clock; slabs are dropped on quit and on enchant reload
+ * EffectRegistry checks the slab before running an effect, and every effect calls proc() when it
+ * actually fires (a landed chance roll...); that starts the cooldown, if the enchant has one, and
+ * counts the run as a proc in the effect metrics
+ */
+public class CooldownService implements Listener {
+    
+    private static final int MAX_DEPTH = 8;
+    
+    private final IntObjectMap<long[]> slabs = new IntObjectMap<>();
+    private int enchantCount;
+    private long tick;
+    private BukkitTask clock;
+    
+    // Effect being run by the registry, a stack since damage effects can re-enter dispatch
+    private final long[][] contextSlabs = new long[MAX_DEPTH][];
+    private final int[] contextIds = new int[MAX_DEPTH];
+    private final int[] contextTicks = new int[MAX_DEPTH];
+    private final boolean[] contextProcced = new boolean[MAX_DEPTH];
+    private int depth;
+    
+    public void start() {
+        clock = Bukkit.getScheduler().runTaskTimer(PandoraEnchants.getInstance(), () -> tick++, 1L, 1L);
+    }
+    
+    public void shutdown() {
+        if (clock != null) {
+            clock.cancel();
+            clock = null;
+        }
+        slabs.clear();
+        depth = 0;
+    }
+    
+    /**
+     * Drops every slab, since enchant ids change on every load
+     */
+    public void reset(int enchantCount) {
+        this.enchantCount = enchantCount;
+        slabs.clear();
+    }
+    
+    public long getCurrentTick() {
+        return tick;
+    }
+    
+    /**
+     * Number of players with a cooldown slab
+     */
+    public int getTrackedCount() {
+        return slabs.size();
+    }
+    
+    /**
+     * Gets (or creates) the cooldown slab of a player
+     */
+    public long[] getSlab(Player player) {
+        long[] slab = slabs.get(player.getEntityId());
+        if (slab == null) {
+            slab = new long[enchantCount];
+            slabs.put(player.getEntityId(), slab);
+        }
+        return slab;
+    }
+    
+    public boolean isReady(long[] slab, int id) {
+        return id < 0 || id >= slab.length || slab[id] <= tick;
+    }
+    
+    /**
+     * Checks and starts an enchant cooldown outside the effect registry (double jump...)
+     * Returns false while the enchant is cooling down
+     */
+    public boolean tryAcquire(Player player, PandoraEnchant enchant, int level) {
+        int ticks = enchant.getCooldownTicks(level);
+        if (ticks <= 0) return true;
+        
+        long[] slab = getSlab(player);
+        int id = enchant.getId();
+        if (!isReady(slab, id)) return false;
+        if (id >= 0 && id < slab.length) {
+            slab[id] = tick + ticks;
+        }
+        return true;
+    }
+    
+    /**
+     * Marks the effect currently run by the registry as procced and starts its cooldown (if any)
+     */
+    public void proc() {
+        if (depth == 0 || depth > MAX_DEPTH) return;
+        
+        int top = depth - 1;
+        contextProcced[top] = true;
+        long[] slab = contextSlabs[top];
+        int id = contextIds[top];
+        if (slab != null && id >= 0 && id < slab.length) {
+            slab[id] = tick + contextTicks[top];
+        }
+    }
+    
+    /**
+     * Marks the start of an effect run (slab may be null for enchants without a cooldown)
+     */
+    void enter(long[] slab, int id, int ticks) {
+        if (depth < MAX_DEPTH) {
+            contextSlabs[depth] = slab;
+            contextIds[depth] = id;
+            contextTicks[depth] = ticks;
+            contextProcced[depth] = false;
+        }
+        depth++;
+    }
+    
+    /**
+     * Marks the end of an effect run, returns whether the effect called proc()
+     */
+    boolean exit() {
+        if (depth == 0) return false;
+        depth--;
+        if (depth < MAX_DEPTH) {
+            contextSlabs[depth] = null;
+            return contextProcced[depth];
+        }
+        return false;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        slabs.remove(event.getPlayer().getEntityId());
+    }
+}
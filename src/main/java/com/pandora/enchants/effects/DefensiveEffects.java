@@ -0,0 +1,109 @@
+package com.pandora.enchants.effects;
+
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+
+import java.util.*;
+
+/**
+ * Armor enchant effects applied when the wearer takes damage (ON_DAMAGED)
+ */
+public class DefensiveEffects {
+    
+    private final Random random = new Random();
+    private final CooldownService cooldowns;
+    private final EffectEmitter emitter;
+    
+    public DefensiveEffects(CooldownService cooldowns, EffectEmitter emitter) {
+        this.cooldowns = cooldowns;
+        this.emitter = emitter;
+    }
+    
+    public void register(EffectRegistry registry) {
+        registry.register("thorns", EffectTrigger.ON_DAMAGED, this::thorns);
+        registry.register("shield", EffectTrigger.ON_DAMAGED, this::shield);
+        registry.register("tank", EffectTrigger.ON_DAMAGED, this::tank);
+        registry.register("immortal", EffectTrigger.ON_DAMAGED, this::immortal);
+        registry.register("feather_fall", EffectTrigger.ON_DAMAGED, this::featherFall);
+    }
+    
+    private void thorns(Player player, int level, EntityDamageEvent event) {
+        if (!(event instanceof EntityDamageByEntityEvent)) return;
+        Entity damager = ((EntityDamageByEntityEvent) event).getDamager();
+        
+        // Spam is held back by the thorns cooldown (cooldown_ticks)
+        cooldowns.proc();
+        
+        if (damager instanceof LivingEntity && damager != player) {
+            LivingEntity attacker = (LivingEntity) damager;
+            double thornsDamage = 1.5 + (level * 1.0); // Much stronger
+            attacker.damage(thornsDamage);
+            emitter.sound(player, player.getLocation(), Sound.ENTITY_PLAYER_HURT, 0.625f, 1.0f);
+            if (attacker.getWorld() != null) {
+                emitter.particle(Particle.DAMAGE_INDICATOR,
+                    attacker.getLocation().add(0, 1, 0), 8, 0.375, 0.375, 0.375, 0.1);
+                emitter.particle(Particle.CRIT, attacker.getLocation(), 5, 0.3125, 0.3125, 0.3125, 0.0625);
+            }
+        }
+    }
+    
+    private void shield(Player player, int level, EntityDamageEvent event) {
+        // Much higher chance
+        if (random.nextDouble() < (0.3 + (level * 0.1))) {
+            cooldowns.proc();
+            Location loc = player.getLocation();
+            double reduction = 0.4 + (level * 0.15); // Much stronger reduction
+            event.setDamage(event.getDamage() * (1.0 - reduction));
+            emitter.sound(player, loc, Sound.ITEM_SHIELD_BLOCK, 0.625f, 0.8f);
+            if (loc.getWorld() != null) {
+                emitter.particle(Particle.ITEM, loc.add(0, 1, 0), 5, 0.375, 0.375, 0.375, 0.0625);
+                emitter.particle(Particle.ENCHANTED_HIT, loc, 6, 0.3125, 0.3125, 0.3125, 0.0375);
+            }
+        }
+    }
+    
+    private void tank(Player player, int level, EntityDamageEvent event) {
+        double reduction = 0.2 + (level * 0.1); // Much stronger
+        event.setDamage(event.getDamage() * (1.0 - reduction));
+        cooldowns.proc();
+        if (random.nextDouble() < 0.2) {
+            Location loc = player.getLocation();
+            emitter.sound(player, loc, Sound.BLOCK_ANVIL_LAND, 0.375f, 1.2f);
+            if (loc.getWorld() != null) {
+                emitter.particle(Particle.BLOCK, loc.add(0, 1, 0), 3, 0.25, 0.25, 0.25, 0.0375);
+            }
+        }
+    }
+    
+    private void immortal(Player player, int level, EntityDamageEvent event) {
+        if (player.getHealth() <= 3.0 && random.nextDouble() < (0.5 + (level * 0.1))) { // Higher chance
+            cooldowns.proc();
+            Location loc = player.getLocation();
+            event.setCancelled(true);
+            double newHealth = Math.min(player.getHealth() + 3.0, player.getMaxHealth()); // More healing
+            player.setHealth(newHealth);
+            emitter.sound(player, loc, Sound.ENTITY_PLAYER_LEVELUP, 0.75f, 0.5f);
+            if (loc.getWorld() != null) {
+                emitter.particle(Particle.TOTEM_OF_UNDYING, loc.add(0, 1, 0), 15, 0.625, 0.625, 0.625, 0.125);
+                emitter.particle(Particle.HEART, loc.add(0, 1.5, 0), 8, 0.375, 0.375, 0.375, 0.0625);
+            }
+        }
+    }
+    
+    private void featherFall(Player player, int level, EntityDamageEvent event) {
+        if (event.getCause() != EntityDamageEvent.DamageCause.FALL) return;
+        
+        double reduction = 0.5 + (level * 0.15); // Much stronger reduction
+        event.setDamage(event.getDamage() * (1.0 - reduction));
+        cooldowns.proc();
+        
+        emitter.sound(player, player.getLocation(), Sound.ENTITY_CHICKEN_EGG, 0.5f, 1.14f);
+        emitter.particle(player, Particle.CLOUD, player.getLocation(), 6, 0.375, 0.25, 0.375, 0.0375);
+    }
+}
@@ -0,0 +1,264 @@
+package com.pandora.enchants.effects;
+
+import com.pandora.enchants.PandoraEnchants;
+import com.pandora.enchants.util.IntObjectMap;
+import com.pandora.enchants.util.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Runs every damage-over-time effect (venom, wither, poison, bleed) and other delayed
+ * repeats (lightning follow-up strikes) from a single tick task
+ * Entries sit in a timing wheel and are only touched on the ticks they are due; active DoTs are
+ * tracked per entity id so re-applying one refreshes or stacks it instead of adding another task
+ */
+public class DotManager {
+    
+    /**
+     * Damage-over-time kinds and how repeated applications combine
+     */
+    public enum Type {
+        POISON(1),
+        VENOM(1),
+        WITHER(1),
+        BLEED(3);
+        
+        private final int maxStacks;
+        
+        Type(int maxStacks) {
+            this.maxStacks = maxStacks;
+        }
+    }
+    
+    private static final int PULSE_INTERVAL = 20;
+    private static final int WHEEL_SIZE = 64; // power of two
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int TYPES = Type.values().length;
+    
+    private final EffectEmitter emitter;
+    private final EffectMetrics metrics;
+    private final Entry[] wheel = new Entry[WHEEL_SIZE];
+    private final IntObjectMap<Dot[]> active = new IntObjectMap<>();
+    private int scheduled;
+    private long tick;
+    private BukkitTask task;
+    
+    public DotManager(EffectEmitter emitter, EffectMetrics metrics) {
+        this.emitter = emitter;
+        this.metrics = metrics;
+    }
+    
+    /**
+     * Applies a DoT: damage every second for durationTicks (at least one pulse, starting next tick)
+     * Re-applying an active type refreshes its duration and keeps the stronger damage;
+     * stackable types (bleed) add a stack up to their limit
+     */
+    public void apply(LivingEntity target, Type type, double damagePerPulse, int durationTicks) {
+        int pulses = Math.max(1, (durationTicks + PULSE_INTERVAL - 1) / PULSE_INTERVAL);
+        int entityId = target.getEntityId();
+        
+        Dot[] dots = active.get(entityId);
+        if (dots == null) {
+            dots = new Dot[TYPES];
+            active.put(entityId, dots);
+        }
+        
+        Dot dot = dots[type.ordinal()];
+        if (dot != null && dot.target == target) {
+            dot.damage = Math.max(dot.damage, damagePerPulse);
+            dot.remaining = Math.max(dot.remaining, pulses);
+            if (dot.stacks < type.maxStacks) {
+                dot.stacks++;
+            }
+            return;
+        }
+        
+        dot = new Dot(target, type, damagePerPulse, pulses);
+        dots[type.ordinal()] = dot;
+        schedule(dot, 1);
+    }
+    
+    /**
+     * Runs an action a number of times, every intervalTicks starting after intervalTicks
+     */
+    public void repeat(int intervalTicks, int times, Runnable action) {
+        if (times <= 0) return;
+        Repeat repeat = new Repeat(action, times);
+        repeat.interval = Math.max(1, intervalTicks);
+        schedule(repeat, repeat.interval);
+    }
+    
+    /**
+     * Number of entries waiting in the wheel
+     */
+    public int getScheduledCount() {
+        return scheduled;
+    }
+    
+    /**
+     * Cancels the tick task and drops every pending entry
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = null;
+        }
+        active.clear();
+        scheduled = 0;
+    }
+    
+    private void schedule(Entry entry, int delay) {
+        entry.due = tick + delay;
+        int slot = (int) (entry.due & WHEEL_MASK);
+        entry.next = wheel[slot];
+        wheel[slot] = entry;
+        scheduled++;
+        
+        // The task only exists while something is pending
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(PandoraEnchants.getInstance(),
+                    metrics.timed(EffectMetrics.Task.DOTS, this::tick), 1L, 1L);
+        }
+    }
+    
+    private void tick() {
+        tick++;
+        int slot = (int) (tick & WHEEL_MASK);
+        
+        // Detach the slot first so entries scheduled while pulsing land in the next rotation
+        Entry entry = wheel[slot];
+        wheel[slot] = null;
+        
+        while (entry != null) {
+            Entry next = entry.next;
+            entry.next = null;
+            
+            if (entry.due > tick) {
+                // Due in a later rotation of the wheel
+                entry.next = wheel[slot];
+                wheel[slot] = entry;
+            } else {
+                scheduled--;
+                if (pulse(entry)) {
+                    schedule(entry, entry.interval);
+                }
+            }
+            entry = next;
+        }
+        
+        if (scheduled == 0 && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+    
+    private boolean pulse(Entry entry) {
+        try {
+            if (entry.pulse() && entry.remaining > 0) {
+                return true;
+            }
+        } catch (Exception e) {
+            Logger.error("Error running damage over time effect: " + e.getMessage());
+            e.printStackTrace();
+        }
+        entry.finish();
+        return false;
+    }
+    
+    private abstract static class Entry {
+        long due;
+        int interval = PULSE_INTERVAL;
+        int remaining;
+        Entry next;
+        
+        /**
+         * Runs one pulse; returns false when the entry should stop early
+         */
+        abstract boolean pulse();
+        
+        void finish() {
+        }
+    }
+    
+    private final class Dot extends Entry {
+        private final LivingEntity target;
+        private final Type type;
+        private double damage;
+        private int stacks = 1;
+        
+        private Dot(LivingEntity target, Type type, double damage, int pulses) {
+            this.target = target;
+            this.type = type;
+            this.damage = damage;
+            this.remaining = pulses;
+        }
+        
+        @Override
+        boolean pulse() {
+            if (target.isDead() || !target.isValid()) return false;
+            
+            remaining--;
+            target.damage(damage * stacks);
+            spawnParticles(target.getLocation());
+            return true;
+        }
+        
+        @Override
+        void finish() {
+            int entityId = target.getEntityId();
+            Dot[] dots = active.get(entityId);
+            if (dots == null || dots[type.ordinal()] != this) return;
+            
+            dots[type.ordinal()] = null;
+            for (Dot dot : dots) {
+                if (dot != null) return;
+            }
+            active.remove(entityId);
+        }
+        
+        private void spawnParticles(Location loc) {
+            if (loc.getWorld() == null) return;
+            
+            switch (type) {
+                case POISON:
+                    emitter.particle(Particle.ITEM_SLIME, loc.add(0, 1, 0), 4, 0.25, 0.25, 0.25, 0.0375);
+                    break;
+                case WITHER:
+                    emitter.particle(Particle.SMOKE, loc.add(0, 1, 0), 5, 0.3125, 0.3125, 0.3125, 0.0375);
+                    emitter.particle(Particle.SOUL, loc, 3, 0.25, 0.25, 0.25, 0.025);
+                    break;
+                case VENOM:
+                    emitter.particle(Particle.ITEM_SLIME, loc.add(0, 1, 0), 4, 0.25, 0.25, 0.25, 0.0375);
+                    emitter.particle(Particle.ENCHANT, loc, 3, 0.1875, 0.1875, 0.1875, 0.0125);
+                    break;
+                case BLEED:
+                    emitter.particle(Particle.DAMAGE_INDICATOR, loc.add(0, 1, 0), 4, 0.25, 0.25, 0.25, 0.0625);
+                    emitter.particle(Particle.DUST, loc.add(0, -0.5, 0), 3, 0.1875, 0.1875, 0.1875, 0.0375);
+                    return;
+            }
+            emitter.particle(Particle.DAMAGE_INDICATOR, loc.add(0, 1, 0), 3, 0.25, 0.25, 0.25, 0.0625);
+        }
+    }
+    
+    private static final class Repeat extends Entry {
+        private final Runnable action;
+        
+        private Repeat(Runnable action, int times) {
+            this.action = action;
+            this.remaining = times;
+        }
+        
+        @Override
+        boolean pulse() {
+            remaining--;
+            action.run();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.pandora.enchants.effects;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.*;
+
+/**
+ * Collects the drops of many broken blocks and delivers them in one pass
+ * Identical stacks are merged by item (ignoring amount), optionally smelted (autosmelt) and
+ * moved to the player's inventory (telekinesis); whatever is left is dropped as full stacks
+ */
+public class DropCollector {
+    
+    // Keys are single-item prototypes, so ItemStack equality ignores the collected amount
+    private final Map<ItemStack, Integer> amounts = new LinkedHashMap<>();
+    
+    public void add(ItemStack drop) {
+        if (drop == null || drop.getType().isAir() || drop.getAmount() <= 0) return;
+        
+        ItemStack key = drop.clone();
+        key.setAmount(1);
+        amounts.merge(key, drop.getAmount(), Integer::sum);
+    }
+    
+    public void addAll(Collection<ItemStack> drops) {
+        for (ItemStack drop : drops) {
+            add(drop);
+        }
+    }
+    
+    public boolean isEmpty() {
+        return amounts.isEmpty();
+    }
+    
+    /**
+     * Delivers everything collected and empties the collector
+     * Returns the number of item entities spawned
+     */
+    public int deliver(Player player, Location location, boolean smelt, boolean telekinesis) {
+        if (amounts.isEmpty()) return 0;
+        if (smelt) smelt();
+        
+        List<ItemStack> stacks = new ArrayList<>();
+        for (Map.Entry<ItemStack, Integer> entry : amounts.entrySet()) {
+            ItemStack prototype = entry.getKey();
+            int remaining = entry.getValue();
+            int max = Math.max(1, prototype.getMaxStackSize());
+            while (remaining > 0) {
+                ItemStack stack = prototype.clone();
+                stack.setAmount(Math.min(max, remaining));
+                remaining -= stack.getAmount();
+                stacks.add(stack);
+            }
+        }
+        amounts.clear();
+        
+        Collection<ItemStack> leftover = stacks;
+        if (telekinesis && player != null && player.isOnline()) {
+            leftover = player.getInventory().addItem(stacks.toArray(new ItemStack[0])).values();
+        }
+        
+        World world = location.getWorld();
+        if (world == null) return 0;
+        
+        int spawned = 0;
+        for (ItemStack stack : leftover) {
+            world.dropItemNaturally(location, stack);
+            spawned++;
+        }
+        return spawned;
+    }
+    
+    /**
+     * Replaces smeltable drops by their smelted result, one for one
+     */
+    private void smelt() {
+        Map<ItemStack, Integer> smelted = new LinkedHashMap<>();
+        for (Map.Entry<ItemStack, Integer> entry : amounts.entrySet()) {
+            ItemStack key = entry.getKey();
+            Material result = ToolEffects.getSmeltedResult(key.getType());
+            if (result != null) {
+                key = new ItemStack(result);
+            }
+            smelted.merge(key, entry.getValue(), Integer::sum);
+        }
+        amounts.clear();
+        amounts.putAll(smelted);
+    }
+}
@@ -0,0 +1,352 @@
+package com.pandora.enchants.effects;
+
+import com.pandora.enchants.PandoraEnchants;
+import com.pandora.enchants.util.ConfigManager;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * Sends enchant particles and sounds at the end of the tick instead of immediately
+ * Identical requests (same effect, block and parameters) made in the same tick are merged into one,
+ * world-wide ones only go to players within the view distance, and every chunk and player has a
+ * budget of effects per tick (performance.effects in config.yml); quality reduced halves particle
+ * counts and budgets, off drops particles entirely
+ * Sounds follow the load governor: half the player budget while reduced, none while shedding
+ */
+public class EffectEmitter {
+    
+    public enum Quality {
+        FULL,
+        REDUCED,
+        OFF
+    }
+    
+    private static final int MAX_MERGED_COUNT = 64;
+    
+    private final Map<Request, Request> pending = new HashMap<>();
+    private final List<Request> order = new ArrayList<>();
+    private final ArrayDeque<Request> pool = new ArrayDeque<>();
+    private final Map<UUID, Viewers> viewers = new HashMap<>();
+    private final Request probe = new Request();
+    private final Location spawnLoc = new Location(null, 0, 0, 0);
+    private final LoadGovernor governor;
+    private final Runnable flushRun;
+    private BukkitTask flushTask;
+    private long emitted;
+    private long dropped;
+    
+    public EffectEmitter(EffectMetrics metrics, LoadGovernor governor) {
+        this.governor = governor;
+        this.flushRun = metrics.timed(EffectMetrics.Task.EFFECT_FLUSH, this::flush);
+    }
+    
+    /**
+     * Shows a particle to players around a location
+     */
+    public void particle(Particle particle, Location loc, int count, double offsetX, double offsetY, double offsetZ, double speed) {
+        queue(null, particle, null, loc, count, offsetX, offsetY, offsetZ, speed, null, 0, 0);
+    }
+    
+    public <T> void particle(Particle particle, Location loc, int count, double offsetX, double offsetY, double offsetZ, double speed, T data) {
+        queue(null, particle, null, loc, count, offsetX, offsetY, offsetZ, speed, data, 0, 0);
+    }
+    
+    /**
+     * Shows a particle to a single player
+     */
+    public void particle(Player viewer, Particle particle, Location loc, int count, double offsetX, double offsetY, double offsetZ, double speed) {
+        queue(viewer, particle, null, loc, count, offsetX, offsetY, offsetZ, speed, null, 0, 0);
+    }
+    
+    /**
+     * Plays a sound to players around a location
+     */
+    public void sound(Location loc, Sound sound, float volume, float pitch) {
+        queue(null, null, sound, loc, 1, 0, 0, 0, 0, null, volume, pitch);
+    }
+    
+    /**
+     * Plays a sound to a single player
+     */
+    public void sound(Player listener, Location loc, Sound sound, float volume, float pitch) {
+        queue(listener, null, sound, loc, 1, 0, 0, 0, 0, null, volume, pitch);
+    }
+    
+    /**
+     * Configured quality, lowered by the load governor while the server runs slow
+     */
+    public Quality getQuality() {
+        return governor.limit(parseQuality(ConfigManager.getEffectQuality()));
+    }
+    
+    /**
+     * Effects sent to players since startup
+     */
+    public long getEmittedCount() {
+        return emitted;
+    }
+    
+    /**
+     * Effects dropped by quality, culling or budgets since startup
+     */
+    public long getDroppedCount() {
+        return dropped;
+    }
+    
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        pending.clear();
+        order.clear();
+        pool.clear();
+        viewers.clear();
+    }
+    
+    private void queue(Player viewer, Particle particle, Sound sound, Location loc, int count,
+                       double offsetX, double offsetY, double offsetZ, double speed, Object data,
+                       float volume, float pitch) {
+        World world = viewer != null ? viewer.getWorld() : loc.getWorld();
+        if (world == null || count <= 0) return;
+        
+        // Coordinates are copied, callers keep mutating their Location (loc.add...)
+        probe.set(world, viewer, particle, sound, loc.getX(), loc.getY(), loc.getZ(),
+                count, offsetX, offsetY, offsetZ, speed, data, volume, pitch);
+        Request merged = pending.get(probe);
+        if (merged != null) {
+            merged.count = Math.min(MAX_MERGED_COUNT, merged.count + count);
+            return;
+        }
+        
+        Request request = pool.isEmpty() ? new Request() : pool.poll();
+        request.copy(probe);
+        pending.put(request, request);
+        order.add(request);
+        
+        if (flushTask == null) {
+            flushTask = Bukkit.getScheduler().runTask(PandoraEnchants.getInstance(), flushRun);
+        }
+    }
+    
+    /**
+     * Sends this tick's requests within the chunk and player budgets
+     */
+    private void flush() {
+        flushTask = null;
+        
+        Quality quality = getQuality();
+        boolean reduced = quality == Quality.REDUCED;
+        double viewDistance = ConfigManager.getEffectViewDistance();
+        double viewDistanceSquared = viewDistance * viewDistance;
+        int chunkBudget = ConfigManager.getEffectChunkBudget();
+        int playerBudget = ConfigManager.getEffectPlayerBudget();
+        if (reduced) {
+            chunkBudget = Math.max(1, chunkBudget / 2);
+            playerBudget = Math.max(1, playerBudget / 2);
+        }
+        boolean shedding = governor.isShedding();
+        int soundBudget = governor.isReduced() ? Math.max(1, playerBudget / 2) : playerBudget;
+        
+        for (Request request : order) {
+            if (request.particle != null ? quality == Quality.OFF : shedding) {
+                dropped++;
+                continue;
+            }
+            int budget = request.sound != null ? soundBudget : playerBudget;
+            
+            Viewers world = viewers.get(request.world.getUID());
+            if (world == null) {
+                world = new Viewers(request.world);
+                viewers.put(request.world.getUID(), world);
+            }
+            if (!world.useChunk(request.chunkKey(), chunkBudget)) {
+                dropped++;
+                continue;
+            }
+            
+            int count = reduced ? Math.max(1, request.count / 2) : request.count;
+            if (request.viewer != null) {
+                int index = world.indexOf(request.viewer);
+                if (index >= 0 && world.used[index] < budget) {
+                    world.used[index]++;
+                    send(request.viewer, request, count);
+                } else {
+                    dropped++;
+                }
+                continue;
+            }
+            
+            for (int i = 0; i < world.players.length; i++) {
+                if (world.used[i] >= budget) continue;
+                
+                Location viewerLoc = world.players[i].getLocation(world.location);
+                double dx = viewerLoc.getX() - request.x;
+                double dy = viewerLoc.getY() - request.y;
+                double dz = viewerLoc.getZ() - request.z;
+                if (dx * dx + dy * dy + dz * dz > viewDistanceSquared) continue;
+                
+                world.used[i]++;
+                send(world.players[i], request, count);
+            }
+        }
+        
+        for (Request request : order) {
+            request.clear();
+            pool.add(request);
+        }
+        pending.clear();
+        order.clear();
+        viewers.clear();
+    }
+    
+    private void send(Player player, Request request, int count) {
+        spawnLoc.setWorld(request.world);
+        spawnLoc.setX(request.x);
+        spawnLoc.setY(request.y);
+        spawnLoc.setZ(request.z);
+        
+        if (request.sound != null) {
+            player.playSound(spawnLoc, request.sound, request.volume, request.pitch);
+        } else if (request.data != null) {
+            player.spawnParticle(request.particle, spawnLoc, count, request.offsetX, request.offsetY,
+                    request.offsetZ, request.speed, request.data);
+        } else {
+            player.spawnParticle(request.particle, spawnLoc, count, request.offsetX, request.offsetY,
+                    request.offsetZ, request.speed);
+        }
+        emitted++;
+    }
+    
+    private static Quality parseQuality(String value) {
+        try {
+            return Quality.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Quality.FULL;
+        }
+    }
+    
+    private static int floor(double value) {
+        int i = (int) value;
+        return value < i ? i - 1 : i;
+    }
+    
+    /**
+     * Players of one world and the effects each received this flush
+     */
+    private static final class Viewers {
+        private final Player[] players;
+        private final int[] used;
+        private final Location location = new Location(null, 0, 0, 0);
+        private final Map<Long, int[]> chunks = new HashMap<>();
+        
+        private Viewers(World world) {
+            this.players = world.getPlayers().toArray(new Player[0]);
+            this.used = new int[players.length];
+        }
+        
+        private boolean useChunk(long key, int budget) {
+            int[] count = chunks.computeIfAbsent(key, k -> new int[1]);
+            if (count[0] >= budget) return false;
+            count[0]++;
+            return true;
+        }
+        
+        private int indexOf(Player player) {
+            for (int i = 0; i < players.length; i++) {
+                if (players[i] == player) return i;
+            }
+            return -1;
+        }
+    }
+    
+    /**
+     * A pooled effect request; equality covers everything except the count, so identical
+     * requests in the same block merge
+     */
+    private static final class Request {
+        private World world;
+        private Player viewer;
+        private Particle particle;
+        private Sound sound;
+        private double x;
+        private double y;
+        private double z;
+        private int count;
+        private double offsetX;
+        private double offsetY;
+        private double offsetZ;
+        private double speed;
+        private Object data;
+        private float volume;
+        private float pitch;
+        
+        private void set(World world, Player viewer, Particle particle, Sound sound, double x, double y, double z,
+                         int count, double offsetX, double offsetY, double offsetZ, double speed, Object data,
+                         float volume, float pitch) {
+            this.world = world;
+            this.viewer = viewer;
+            this.particle = particle;
+            this.sound = sound;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.count = count;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+            this.offsetZ = offsetZ;
+            this.speed = speed;
+            this.data = data;
+            this.volume = volume;
+            this.pitch = pitch;
+        }
+        
+        private void copy(Request other) {
+            set(other.world, other.viewer, other.particle, other.sound, other.x, other.y, other.z, other.count,
+                    other.offsetX, other.offsetY, other.offsetZ, other.speed, other.data, other.volume, other.pitch);
+        }
+        
+        private void clear() {
+            world = null;
+            viewer = null;
+            data = null;
+        }
+        
+        private long chunkKey() {
+            return ((long) (floor(x) >> 4) << 32) | ((floor(z) >> 4) & 0xFFFFFFFFL);
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Request)) return false;
+            Request other = (Request) o;
+            return world == other.world && viewer == other.viewer && particle == other.particle
+                    && sound == other.sound
+                    && floor(x) == floor(other.x) && floor(y) == floor(other.y) && floor(z) == floor(other.z)
+                    && offsetX == other.offsetX && offsetY == other.offsetY && offsetZ == other.offsetZ
+                    && speed == other.speed && volume == other.volume && pitch == other.pitch
+                    && Objects.equals(data, other.data);
+        }
+        
+        @Override
+        public int hashCode() {
+            int hash = System.identityHashCode(world);
+            hash = 31 * hash + System.identityHashCode(viewer);
+            hash = 31 * hash + (particle != null ? particle.ordinal() : -1);
+            hash = 31 * hash + (sound != null ? sound.hashCode() : 0);
+            hash = 31 * hash + floor(x);
+            hash = 31 * hash + floor(y);
+            hash = 31 * hash + floor(z);
+            hash = 31 * hash + Double.hashCode(speed);
+            return hash;
+        }
+    }
+}
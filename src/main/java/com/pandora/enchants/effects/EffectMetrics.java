@@ -0,0 +1,329 @@
+package com.pandora.enchants.effects;
+
+import com.pandora.enchants.PandoraEnchants;
+import com.pandora.enchants.engine.PandoraEnchant;
+import com.pandora.enchants.util.ConfigManager;
+import com.pandora.enchants.util.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-enchant timing of effect runs (performance.metrics in config.yml)
+ * EffectRegistry times every effect run into counters indexed by enchant id (runs, procs, nanoseconds)
+ * and every Nth run into a log2 latency histogram; work the effects hand to the shared services
+ * (magnet pulls, multi-block breaking, DoTs, explosions, particle flush) is timed per service
+ * Shown by /pe stats and written to metrics.csv / metrics.json in the plugin folder
+ */
+public class EffectMetrics {
+    
+    // Bucket i holds runs of [2^(i-1), 2^i) ns, the last one everything from ~8ms up
+    private static final int BUCKETS = 24;
+    
+    /**
+     * Deferred work run by the shared services on their own tick tasks
+     */
+    public enum Task {
+        MAGNET("magnet_pull"),
+        MULTI_BLOCK("multi_block"),
+        DOTS("damage_over_time"),
+        EXPLOSIONS("explosions"),
+        EFFECT_FLUSH("effect_flush");
+        
+        private final String label;
+        
+        Task(String label) {
+            this.label = label;
+        }
+    }
+    
+    private final Map<String, Stats> byName = new LinkedHashMap<>();
+    private final Stats[] tasks = new Stats[Task.values().length];
+    private Stats[] byId = new Stats[0];
+    private boolean enabled;
+    private int sampleRate = 1;
+    private long since = System.currentTimeMillis();
+    private BukkitTask dumpTask;
+    
+    public EffectMetrics() {
+        for (Task task : Task.values()) {
+            tasks[task.ordinal()] = new Stats(task.label);
+        }
+    }
+    
+    /**
+     * Reads the settings and starts the periodic dump
+     */
+    public void start() {
+        enabled = ConfigManager.isMetricsEnabled();
+        sampleRate = ConfigManager.getMetricsSampleRate();
+        
+        long interval = ConfigManager.getMetricsDumpInterval() * 60L * 20L;
+        if (enabled && interval > 0) {
+            dumpTask = Bukkit.getScheduler().runTaskTimer(PandoraEnchants.getInstance(), () -> dump(true), interval, interval);
+        }
+    }
+    
+    /**
+     * Stops the dump task and writes the final numbers (on the calling thread)
+     */
+    public void shutdown() {
+        if (dumpTask != null) {
+            dumpTask.cancel();
+            dumpTask = null;
+        }
+        if (enabled) {
+            dump(false);
+        }
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Maps enchant ids to their counters (called on every enchant load, counters survive reloads)
+     */
+    void bind(Collection<PandoraEnchant> enchants) {
+        int size = 0;
+        for (PandoraEnchant enchant : enchants) {
+            size = Math.max(size, enchant.getId() + 1);
+        }
+        
+        Stats[] built = new Stats[size];
+        for (PandoraEnchant enchant : enchants) {
+            if (enchant.getId() < 0) continue;
+            built[enchant.getId()] = byName.computeIfAbsent(enchant.getNamespacedName(), Stats::new);
+        }
+        byId = built;
+    }
+    
+    /**
+     * Start timestamp for a timed section, 0 when metrics are off
+     */
+    public long begin() {
+        return enabled ? System.nanoTime() : 0;
+    }
+    
+    /**
+     * Records one effect run of an enchant started at begin()
+     */
+    void record(int id, long started, boolean procced) {
+        if (started == 0 || id < 0 || id >= byId.length || byId[id] == null) return;
+        
+        Stats stats = byId[id];
+        stats.add(System.nanoTime() - started, sampleRate);
+        if (procced) {
+            stats.procs.increment();
+        }
+    }
+    
+    /**
+     * Records one run of a service task started at begin()
+     */
+    public void record(Task task, long started) {
+        if (started == 0) return;
+        tasks[task.ordinal()].add(System.nanoTime() - started, sampleRate);
+    }
+    
+    /**
+     * Wraps a service tick task so each run is timed under that task
+     */
+    public Runnable timed(Task task, Runnable body) {
+        return () -> {
+            long started = begin();
+            try {
+                body.run();
+            } finally {
+                record(task, started);
+            }
+        };
+    }
+    
+    public void reset() {
+        byName.replaceAll((name, stats) -> new Stats(name));
+        for (int i = 0; i < byId.length; i++) {
+            if (byId[i] != null) {
+                byId[i] = byName.get(byId[i].name);
+            }
+        }
+        for (Task task : Task.values()) {
+            tasks[task.ordinal()] = new Stats(task.label);
+        }
+        since = System.currentTimeMillis();
+    }
+    
+    /**
+     * Status lines for /pe stats, enchants with the most total time first (limit 0 = all)
+     */
+    public List<String> getStats(int limit) {
+        List<String> lines = new ArrayList<>();
+        if (!enabled) {
+            lines.add("Effect metrics: disabled (performance.metrics.enabled)");
+            return lines;
+        }
+        
+        long seconds = Math.max(1, (System.currentTimeMillis() - since) / 1000);
+        lines.add("Effect metrics: last " + formatDuration(seconds) + ", histogram samples 1 in " + sampleRate);
+        
+        List<Stats> enchants = active(byName.values());
+        int shown = limit > 0 ? Math.min(limit, enchants.size()) : enchants.size();
+        for (int i = 0; i < shown; i++) {
+            Stats stats = enchants.get(i);
+            lines.add(stats.name + ": " + stats.describe(seconds) + ", " + stats.procs.sum() + " procs");
+        }
+        if (shown < enchants.size()) {
+            lines.add("... " + (enchants.size() - shown) + " more, /pe stats all");
+        }
+        
+        for (Stats stats : active(Arrays.asList(tasks))) {
+            lines.add("[" + stats.name + "]: " + stats.describe(seconds));
+        }
+        return lines;
+    }
+    
+    /**
+     * Writes metrics.csv and metrics.json to the plugin folder
+     * The numbers are read on the server thread, the files are written async when asked to
+     */
+    public void dump(boolean async) {
+        List<String> csv = new ArrayList<>();
+        csv.add("name,kind,runs,procs,total_ns,avg_ns,p50_ns,p99_ns,max_ns");
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"since\": ").append(since).append(",\n  \"time\": ").append(System.currentTimeMillis())
+                .append(",\n  \"sample_rate\": ").append(sampleRate).append(",\n  \"entries\": [");
+        
+        boolean first = true;
+        List<Stats> all = active(byName.values());
+        all.addAll(active(Arrays.asList(tasks)));
+        for (Stats stats : all) {
+            String kind = byName.get(stats.name) == stats ? "enchant" : "task";
+            long runs = stats.runs.sum();
+            long total = stats.nanos.sum();
+            long procs = stats.procs.sum();
+            long avg = total / runs;
+            long p50 = stats.percentile(0.50);
+            long p99 = stats.percentile(0.99);
+            long max = stats.max.get();
+            
+            csv.add(stats.name + "," + kind + "," + runs + "," + procs + "," + total + "," + avg + ","
+                    + p50 + "," + p99 + "," + max);
+            json.append(first ? "\n" : ",\n").append("    {\"name\": \"").append(stats.name)
+                    .append("\", \"kind\": \"").append(kind)
+                    .append("\", \"runs\": ").append(runs).append(", \"procs\": ").append(procs)
+                    .append(", \"total_ns\": ").append(total).append(", \"avg_ns\": ").append(avg)
+                    .append(", \"p50_ns\": ").append(p50).append(", \"p99_ns\": ").append(p99)
+                    .append(", \"max_ns\": ").append(max).append("}");
+            first = false;
+        }
+        json.append("\n  ]\n}\n");
+        
+        File folder = PandoraEnchants.getInstance().getDataFolder();
+        String jsonText = json.toString();
+        Runnable write = () -> {
+            try {
+                folder.mkdirs();
+                Files.write(new File(folder, "metrics.csv").toPath(), csv, StandardCharsets.UTF_8);
+                Files.write(new File(folder, "metrics.json").toPath(), jsonText.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                Logger.error("Could not write effect metrics: " + e.getMessage());
+                e.printStackTrace();
+            }
+        };
+        
+        if (async) {
+            Bukkit.getScheduler().runTaskAsynchronously(PandoraEnchants.getInstance(), write);
+        } else {
+            write.run();
+        }
+    }
+    
+    /**
+     * Entries that ran at least once, most total time first
+     */
+    private static List<Stats> active(Collection<Stats> stats) {
+        List<Stats> active = new ArrayList<>();
+        for (Stats entry : stats) {
+            if (entry.runs.sum() > 0) {
+                active.add(entry);
+            }
+        }
+        active.sort(Comparator.comparingLong((Stats entry) -> entry.nanos.sum()).reversed());
+        return active;
+    }
+    
+    private static String formatNanos(long nanos) {
+        if (nanos >= 1_000_000) return String.format("%.1fms", nanos / 1_000_000.0);
+        if (nanos >= 1_000) return String.format("%.1fus", nanos / 1_000.0);
+        return nanos + "ns";
+    }
+    
+    private static String formatDuration(long seconds) {
+        if (seconds >= 3600) return (seconds / 3600) + "h " + (seconds % 3600 / 60) + "m";
+        if (seconds >= 60) return (seconds / 60) + "m " + (seconds % 60) + "s";
+        return seconds + "s";
+    }
+    
+    private static final class Stats {
+        private final String name;
+        private final LongAdder runs = new LongAdder();
+        private final LongAdder procs = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] histogram = new LongAdder[BUCKETS];
+        private int untilSample;
+        
+        private Stats(String name) {
+            this.name = name;
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = new LongAdder();
+            }
+        }
+        
+        private void add(long elapsed, int sampleRate) {
+            runs.increment();
+            nanos.add(elapsed);
+            max.accumulate(elapsed);
+            if (--untilSample <= 0) {
+                untilSample = sampleRate;
+                histogram[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(elapsed))].increment();
+            }
+        }
+        
+        /**
+         * Upper bound of the histogram bucket holding the given fraction of the samples
+         */
+        private long percentile(double fraction) {
+            long total = 0;
+            for (LongAdder bucket : histogram) {
+                total += bucket.sum();
+            }
+            if (total == 0) return 0;
+            
+            long target = (long) Math.ceil(fraction * total);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += histogram[i].sum();
+                if (seen >= target) {
+                    return i == BUCKETS - 1 ? max.get() : 1L << i;
+                }
+            }
+            return max.get();
+        }
+        
+        private String describe(long seconds) {
+            long count = runs.sum();
+            long total = nanos.sum();
+            return count + " runs (" + String.format("%.1f", count / (double) seconds) + "/s), "
+                    + formatNanos(total) + " total, avg " + formatNanos(total / count)
+                    + ", p99 <" + formatNanos(percentile(0.99)) + ", max " + formatNanos(max.get());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.pandora.enchants.effects;
+
+import com.pandora.enchants.engine.EnchantSet;
+import com.pandora.enchants.engine.PandoraEnchant;
+import com.pandora.enchants.util.Logger;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+
+/**
+ * Dispatch table of enchant effects
+ * Effects are registered by enchant name once, then bound at every enchant load into
+ * an array indexed by [trigger][enchant id], so dispatch is a plain array lookup
+ * Enchants with a cooldown are skipped while their CooldownService slab entry is pending
+ * Every effect run is timed into EffectMetrics
+ */
+public class EffectRegistry {
+    
+    private static final EffectTrigger[] TRIGGERS = EffectTrigger.values();
+    
+    private final Map<String, EnchantEffect<?>[]> registered = new HashMap<>();
+    private EnchantEffect<?>[][] table = new EnchantEffect<?>[TRIGGERS.length][0];
+    private int[] boundCounts = new int[TRIGGERS.length];
+    private final CooldownService cooldowns;
+    private final EffectMetrics metrics;
+    
+    public EffectRegistry(CooldownService cooldowns, EffectMetrics metrics) {
+        this.cooldowns = cooldowns;
+        this.metrics = metrics;
+    }
+    
+    /**
+     * Registers an effect for an enchant (takes effect on the next bind)
+     */
+    public <E> void register(String enchant, EffectTrigger trigger, EnchantEffect<E> effect) {
+        EnchantEffect<?>[] effects = registered.computeIfAbsent(enchant, k -> new EnchantEffect<?>[TRIGGERS.length]);
+        if (effects[trigger.ordinal()] != null) {
+            Logger.warn("Enchant effect " + enchant + " already registered for " + trigger + ", replacing it");
+        }
+        effects[trigger.ordinal()] = effect;
+    }
+    
+    /**
+     * Builds the dispatch table for the loaded enchants (called on every load/reload)
+     */
+    public void bind(Collection<PandoraEnchant> enchants) {
+        int size = 0;
+        for (PandoraEnchant enchant : enchants) {
+            size = Math.max(size, enchant.getId() + 1);
+        }
+        
+        EnchantEffect<?>[][] built = new EnchantEffect<?>[TRIGGERS.length][size];
+        int[] counts = new int[TRIGGERS.length];
+        for (PandoraEnchant enchant : enchants) {
+            EnchantEffect<?>[] effects = registered.get(enchant.getNamespacedName());
+            if (effects == null || enchant.getId() < 0) continue;
+            
+            for (int t = 0; t < TRIGGERS.length; t++) {
+                if (effects[t] != null) {
+                    built[t][enchant.getId()] = effects[t];
+                    counts[t]++;
+                }
+            }
+        }
+        
+        table = built;
+        boundCounts = counts;
+        cooldowns.reset(size);
+        metrics.bind(enchants);
+        Logger.debug(Logger.Category.EFFECTS, () -> "Bound enchant effects: " + Arrays.toString(counts) + " per trigger " + Arrays.toString(TRIGGERS));
+    }
+    
+    /**
+     * Whether any loaded enchant has an effect for this trigger
+     */
+    public boolean hasBindings(EffectTrigger trigger) {
+        return boundCounts[trigger.ordinal()] > 0;
+    }
+    
+    /**
+     * Whether this enchant has an effect for this trigger
+     */
+    public boolean isBound(EffectTrigger trigger, PandoraEnchant enchant) {
+        EnchantEffect<?>[] row = table[trigger.ordinal()];
+        int id = enchant.getId();
+        return id >= 0 && id < row.length && row[id] != null;
+    }
+    
+    /**
+     * Runs the effects bound to a trigger for every enchant in the set
+     */
+    public <E> void dispatch(EffectTrigger trigger, Player player, EnchantSet enchants, E event) {
+        if (enchants.isEmpty() || boundCounts[trigger.ordinal()] == 0) return;
+        
+        long[] slab = null;
+        for (int i = 0; i < enchants.size(); i++) {
+            PandoraEnchant enchant = enchants.getEnchantAt(i);
+            int level = enchants.getLevelAt(i);
+            if (slab == null && enchant.getCooldownTicks(level) > 0) {
+                // One slab lookup per dispatch, the checks below are array reads
+                slab = cooldowns.getSlab(player);
+            }
+            apply(trigger, player, enchant, level, event, slab);
+        }
+    }
+    
+    /**
+     * Runs the effect bound to a trigger for a single enchant
+     */
+    public <E> void apply(EffectTrigger trigger, Player player, PandoraEnchant enchant, int level, E event) {
+        apply(trigger, player, enchant, level, event,
+                enchant.getCooldownTicks(level) > 0 ? cooldowns.getSlab(player) : null);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private <E> void apply(EffectTrigger trigger, Player player, PandoraEnchant enchant, int level, E event, long[] slab) {
+        if (level < 1) return;
+        
+        EnchantEffect<?>[] row = table[trigger.ordinal()];
+        int id = enchant.getId();
+        if (id < 0 || id >= row.length || row[id] == null) return;
+        
+        int cooldown = enchant.getCooldownTicks(level);
+        if (cooldown > 0 && !cooldowns.isReady(slab, id)) return;
+        
+        cooldowns.enter(cooldown > 0 ? slab : null, id, cooldown);
+        long started = metrics.begin();
+        try {
+            ((EnchantEffect<E>) row[id]).apply(player, level, event);
+        } catch (Exception e) {
+            Logger.error("Error handling " + trigger + " effect " + enchant.getNamespacedName() + ": " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            metrics.record(id, started, cooldowns.exit());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.pandora.enchants.effects;
+
+/**
+ * Events an enchant effect can be bound to
+ * The event object handed to EnchantEffect.apply depends on the trigger
+ */
+public enum EffectTrigger {
+    
+    /** Player hits an entity with the enchanted item (EntityDamageByEntityEvent) */
+    ON_HIT,
+    
+    /** Player kills an entity (EntityDeathEvent) */
+    ON_KILL,
+    
+    /** Player wearing the enchanted armor takes damage (EntityDamageEvent) */
+    ON_DAMAGED,
+    
+    /** Player breaks a block with the enchanted tool (BlockBreakEvent) */
+    ON_BREAK,
+    
+    /** A block broken with the enchanted tool drops items (BlockDropItemEvent) */
+    ON_DROP,
+    
+    /** Periodic armor effect run by PassiveEffectScheduler (no event, null) */
+    PASSIVE,
+    
+    /** Projectile shot with the enchanted bow hits something (ProjectileHitEvent) */
+    ON_PROJECTILE_HIT
+}
@@ -0,0 +1,16 @@
+package com.pandora.enchants.effects;
+
+import org.bukkit.entity.Player;
+
+/**
+ * A single enchant behaviour bound to one EffectTrigger
+ * @param <E> event type of the trigger (see EffectTrigger)
+ */
+@FunctionalInterface
+public interface EnchantEffect<E> {
+    
+    /**
+     * Runs the effect for the player holding/wearing the enchant
+     */
+    void apply(Player player, int level, E event);
+}
@@ -0,0 +1,209 @@
+package com.pandora.enchants.effects;
+
+import com.pandora.enchants.PandoraEnchants;
+import com.pandora.enchants.util.ConfigManager;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * Queues enchant explosions (explosive arrows) instead of creating them on the spot
+ * A detonation waits a few ticks; explosions queued close to a pending one within that window
+ * are merged into it as one larger explosion, and only a limited number go off per world per tick
+ * (performance.explosions in config.yml), the rest wait for the next ticks
+ * A merged detonation never moves further than the merge radius from where it was first queued;
+ * once max_queued are pending, explosions that have nothing to merge into are dropped
+ * The explosion itself plays the vanilla sound, the emitter only adds the particles
+ */
+public class ExplosionScheduler {
+    
+    private final EffectEmitter emitter;
+    private final EffectMetrics metrics;
+    private final List<Detonation> pending = new ArrayList<>();
+    private final Map<World, int[]> detonatedThisTick = new IdentityHashMap<>();
+    private final Location detonationLoc = new Location(null, 0, 0, 0);
+    private long tick;
+    private long merged;
+    private long dropped;
+    private long detonated;
+    private BukkitTask task;
+    
+    public ExplosionScheduler(EffectEmitter emitter, EffectMetrics metrics) {
+        this.emitter = emitter;
+        this.metrics = metrics;
+    }
+    
+    /**
+     * Queues an explosion (no fire, no block damage, like the explosive enchant)
+     */
+    public void queue(Location loc, float power) {
+        World world = loc.getWorld();
+        if (world == null || power <= 0) return;
+        
+        double mergeRadius = ConfigManager.getExplosionMergeRadius();
+        double mergeRadiusSquared = mergeRadius * mergeRadius;
+        float maxPower = ConfigManager.getExplosionMaxPower();
+        
+        Detonation closest = null;
+        double closestDistance = Double.MAX_VALUE;
+        for (Detonation detonation : pending) {
+            if (detonation.world != world) continue;
+            
+            double distance = detonation.distanceSquared(loc);
+            if (distance < closestDistance) {
+                closest = detonation;
+                closestDistance = distance;
+            }
+        }
+        
+        if (closest != null && closestDistance <= mergeRadiusSquared) {
+            closest.merge(loc, power, maxPower, mergeRadius);
+            merged++;
+            return;
+        }
+        if (pending.size() >= ConfigManager.getExplosionMaxQueued()) {
+            dropped++;
+            return;
+        }
+        
+        pending.add(new Detonation(world, loc, Math.min(power, maxPower),
+                tick + ConfigManager.getExplosionMergeWindow()));
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(PandoraEnchants.getInstance(),
+                    metrics.timed(EffectMetrics.Task.EXPLOSIONS, this::tick), 1L, 1L);
+        }
+    }
+    
+    public int getPendingCount() {
+        return pending.size();
+    }
+    
+    /**
+     * Explosions folded into another one since startup
+     */
+    public long getMergedCount() {
+        return merged;
+    }
+    
+    /**
+     * Explosions skipped since startup because the queue was full and none was close enough
+     */
+    public long getDroppedCount() {
+        return dropped;
+    }
+    
+    public long getDetonatedCount() {
+        return detonated;
+    }
+    
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        pending.clear();
+        detonatedThisTick.clear();
+    }
+    
+    private void tick() {
+        tick++;
+        int maxPerTick = ConfigManager.getExplosionsPerTick();
+        
+        // Oldest first, so deferred detonations keep their order
+        Iterator<Detonation> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            Detonation detonation = iterator.next();
+            if (detonation.dueTick > tick) continue;
+            
+            int[] count = detonatedThisTick.computeIfAbsent(detonation.world, k -> new int[1]);
+            if (count[0] >= maxPerTick) continue;
+            
+            count[0]++;
+            iterator.remove();
+            detonate(detonation);
+        }
+        detonatedThisTick.clear();
+        
+        if (pending.isEmpty()) {
+            task.cancel();
+            task = null;
+        }
+    }
+    
+    private void detonate(Detonation detonation) {
+        // The world may have been unloaded while queued
+        if (Bukkit.getWorld(detonation.world.getUID()) == null) return;
+        
+        detonationLoc.setWorld(detonation.world);
+        detonationLoc.setX(detonation.x);
+        detonationLoc.setY(detonation.y);
+        detonationLoc.setZ(detonation.z);
+        
+        detonation.world.createExplosion(detonationLoc, detonation.power, false, false);
+        emitter.particle(Particle.EXPLOSION, detonationLoc, Math.min(8, 2 + detonation.sources), 0, 0, 0, 0);
+        emitter.particle(Particle.SMOKE, detonationLoc, Math.min(30, 10 * detonation.sources), 0.75, 0.75, 0.75, 0.0625);
+        detonated++;
+    }
+    
+    private static final class Detonation {
+        private final World world;
+        private final long dueTick;
+        private final double originX;
+        private final double originY;
+        private final double originZ;
+        private double x;
+        private double y;
+        private double z;
+        private float power;
+        private int sources = 1;
+        
+        private Detonation(World world, Location loc, float power, long dueTick) {
+            this.world = world;
+            this.x = loc.getX();
+            this.y = loc.getY();
+            this.z = loc.getZ();
+            this.originX = x;
+            this.originY = y;
+            this.originZ = z;
+            this.power = power;
+            this.dueTick = dueTick;
+        }
+        
+        private double distanceSquared(Location loc) {
+            double dx = loc.getX() - x;
+            double dy = loc.getY() - y;
+            double dz = loc.getZ() - z;
+            return dx * dx + dy * dy + dz * dz;
+        }
+        
+        /**
+         * Moves the centre towards the new explosion (weighted by power), at most maxShift from
+         * the first queued position, and grows the power as if the two blast volumes added up
+         */
+        private void merge(Location loc, float addedPower, float maxPower, double maxShift) {
+            double weight = addedPower / (power + addedPower);
+            x += (loc.getX() - x) * weight;
+            y += (loc.getY() - y) * weight;
+            z += (loc.getZ() - z) * weight;
+            
+            double dx = x - originX;
+            double dy = y - originY;
+            double dz = z - originZ;
+            double shift = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            if (shift > maxShift) {
+                double scale = maxShift / shift;
+                x = originX + dx * scale;
+                y = originY + dy * scale;
+                z = originZ + dz * scale;
+            }
+            
+            double volume = (double) power * power * power + (double) addedPower * addedPower * addedPower;
+            power = (float) Math.min(maxPower, Math.cbrt(volume));
+            sources++;
+        }
+    }
+}
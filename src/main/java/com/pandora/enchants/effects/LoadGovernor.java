@@ -0,0 +1,196 @@
+package com.pandora.enchants.effects;
+
+import com.pandora.enchants.PandoraEnchants;
+import com.pandora.enchants.util.ConfigManager;
+import com.pandora.enchants.util.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Scales optional enchant work down when the server runs slow (performance.load_governor in config.yml)
+ * Essential work (damage modifiers, healing, DoTs, armor effects) always runs; optional work is
+ * particles, optional passives (magnet), extra area targets and lightning follow-up strikes
+ * The tick time comes from the server when it exposes it (Paper), otherwise from the interval
+ * between ticks, which only sees ticks over 50ms; levels rise as soon as a threshold is crossed
+ * and only drop after the tick time stayed below it (minus a margin) for a while
+ */
+public class LoadGovernor {
+    
+    public enum Level {
+        // Everything runs
+        NORMAL,
+        // Half the particles, optional passives at half rate, half the area targets, no follow-up strikes
+        REDUCED,
+        // No particles, no optional passives, a quarter of the area targets
+        SHEDDING
+    }
+    
+    // Smoothing of the tick interval fallback, about a second
+    private static final double SMOOTHING = 0.05;
+    // Lowest threshold the interval fallback can see, it never reads below 50ms
+    private static final double MIN_INTERVAL_THRESHOLD = 52.0;
+    
+    private Level level = Level.NORMAL;
+    private Set<String> optionalPassives = Collections.emptySet();
+    private Method tickTimeMethod;
+    private double mspt;
+    private double reduceAt;
+    private double shedAt;
+    private long recoverAfter;
+    private long calmSince;
+    private long lastTick;
+    private long transitions;
+    private BukkitTask task;
+    
+    public void start() {
+        level = Level.NORMAL;
+        mspt = 0;
+        lastTick = 0;
+        calmSince = 0;
+        optionalPassives = new HashSet<>(ConfigManager.getOptionalPassives());
+        if (!ConfigManager.isLoadGovernorEnabled()) return;
+        
+        reduceAt = ConfigManager.getLoadGovernorReduceMspt();
+        shedAt = Math.max(reduceAt, ConfigManager.getLoadGovernorShedMspt());
+        recoverAfter = ConfigManager.getLoadGovernorRecoverSeconds() * 1000L;
+        
+        tickTimeMethod = findTickTimeMethod();
+        if (tickTimeMethod == null) {
+            reduceAt = Math.max(reduceAt, MIN_INTERVAL_THRESHOLD);
+            shedAt = Math.max(shedAt, reduceAt);
+            Logger.info("Server does not report tick times, the load governor reacts to ticks over "
+                    + String.format("%.0f", reduceAt) + "ms only");
+        }
+        
+        task = Bukkit.getScheduler().runTaskTimer(PandoraEnchants.getInstance(), this::sample, 1L, 1L);
+    }
+    
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        level = Level.NORMAL;
+    }
+    
+    public Level getLevel() {
+        return level;
+    }
+    
+    /**
+     * Whether optional work is scaled down (REDUCED or SHEDDING)
+     */
+    public boolean isReduced() {
+        return level != Level.NORMAL;
+    }
+    
+    public boolean isShedding() {
+        return level == Level.SHEDDING;
+    }
+    
+    /**
+     * Whether a passive enchant is optional work (performance.load_governor.optional_passives)
+     */
+    public boolean isOptionalPassive(String enchant) {
+        return optionalPassives.contains(enchant);
+    }
+    
+    /**
+     * Particle quality after load shedding (never better than configured)
+     */
+    public EffectEmitter.Quality limit(EffectEmitter.Quality configured) {
+        EffectEmitter.Quality allowed = level == Level.SHEDDING ? EffectEmitter.Quality.OFF
+                : level == Level.REDUCED ? EffectEmitter.Quality.REDUCED : EffectEmitter.Quality.FULL;
+        return allowed.ordinal() > configured.ordinal() ? allowed : configured;
+    }
+    
+    /**
+     * Area targets after load shedding; the first target is always kept
+     */
+    public int limitTargets(int configured) {
+        switch (level) {
+            case REDUCED:
+                return Math.max(1, configured / 2);
+            case SHEDDING:
+                return Math.max(1, configured / 4);
+            default:
+                return configured;
+        }
+    }
+    
+    public String getStatus() {
+        if (task == null) return "Load governor: disabled";
+        return "Load governor: " + level.name().toLowerCase() + String.format(" (%.1f ms/tick, ", mspt)
+                + (tickTimeMethod != null ? "server tick time" : "tick interval") + "), "
+                + transitions + " level changes";
+    }
+    
+    private void sample() {
+        long now = System.nanoTime();
+        if (tickTimeMethod != null) {
+            mspt = readTickTime();
+        } else if (lastTick != 0) {
+            double interval = (now - lastTick) / 1_000_000.0;
+            mspt = mspt == 0 ? interval : mspt + (interval - mspt) * SMOOTHING;
+        }
+        lastTick = now;
+        
+        Level target = mspt >= shedAt ? Level.SHEDDING : mspt >= reduceAt ? Level.REDUCED : Level.NORMAL;
+        if (target.ordinal() > level.ordinal()) {
+            setLevel(target);
+            calmSince = 0;
+            return;
+        }
+        if (level == Level.NORMAL) return;
+        
+        // Step down one level once the tick time stayed below the current threshold long enough
+        double threshold = (level == Level.SHEDDING ? shedAt : reduceAt) - ConfigManager.getLoadGovernorRecoverMargin();
+        if (mspt >= threshold) {
+            calmSince = 0;
+            return;
+        }
+        long millis = now / 1_000_000L;
+        if (calmSince == 0) {
+            calmSince = millis;
+        } else if (millis - calmSince >= recoverAfter) {
+            setLevel(Level.values()[level.ordinal() - 1]);
+            calmSince = 0;
+        }
+    }
+    
+    private void setLevel(Level target) {
+        Level previous = level;
+        level = target;
+        transitions++;
+        Logger.debug(Logger.Category.EFFECTS, () -> "Load governor: " + previous + " -> " + target
+                + String.format(" at %.1f ms/tick", mspt));
+    }
+    
+    private double readTickTime() {
+        try {
+            return ((Number) tickTimeMethod.invoke(Bukkit.getServer())).doubleValue();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            Logger.warn("Could not read the server tick time, falling back to tick intervals: " + e.getMessage());
+            tickTimeMethod = null;
+            reduceAt = Math.max(reduceAt, MIN_INTERVAL_THRESHOLD);
+            shedAt = Math.max(shedAt, reduceAt);
+            return mspt;
+        }
+    }
+    
+    /**
+     * Paper's Server#getAverageTickTime (ms, averaged over the last 100 ticks)
+     */
+    private static Method findTickTimeMethod() {
+        try {
+            Method method = Bukkit.getServer().getClass().getMethod("getAverageTickTime");
+            return Number.class.isAssignableFrom(method.getReturnType()) || method.getReturnType() == double.class
+                    ? method : null;
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.pandora.enchants.effects;
+
+import com.pandora.enchants.PandoraEnchants;
+import com.pandora.enchants.util.IntObjectMap;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.EntityRemoveEvent;
+import org.bukkit.event.entity.ItemDespawnEvent;
+import org.bukkit.event.entity.ItemMergeEvent;
+import org.bukkit.event.entity.ItemSpawnEvent;
+import org.bukkit.event.inventory.InventoryPickupItemEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.Vector;
+
+import java.util.*;
+
+/**
+ * Tracks dropped items per chunk section so the magnet enchant only looks at the few sections
+ * around a wearer instead of calling getNearbyEntities
+ * Pulls are queued by the passive scheduler (magnet cadence) and applied together on the next tick;
+ * items that leave a section are re-bucketed when scanned, removed items are dropped on their events;
+ * a background sweep walks a slice of the index every second to catch anything the events missed,
+ * sized so a full pass over the index takes at most SWEEP_PASS seconds
+ */
+public class MagnetService implements Listener {
+    
+    // Ticks between sweeps, minimum items checked per sweep and sweeps per full pass
+    private static final long SWEEP_PERIOD = 20L;
+    private static final int SWEEP_BUDGET = 256;
+    private static final int SWEEP_PASS = 5;
+    
+    private final Map<UUID, Map<Long, List<Tracked>>> sections = new HashMap<>();
+    private final IntObjectMap<Tracked> tracked = new IntObjectMap<>(256);
+    private final IntObjectMap<Pull> pending = new IntObjectMap<>();
+    private final List<Pull> pendingOrder = new ArrayList<>();
+    private final Location playerLoc = new Location(null, 0, 0, 0);
+    private final Location itemLoc = new Location(null, 0, 0, 0);
+    private final ArrayDeque<Item> sweepQueue = new ArrayDeque<>();
+    private final Set<Item> recheck = new HashSet<>();
+    private final Runnable flushRun;
+    private BukkitTask flushTask;
+    private BukkitTask sweepTask;
+    
+    public MagnetService(EffectMetrics metrics) {
+        this.flushRun = metrics.timed(EffectMetrics.Task.MAGNET, this::flush);
+    }
+    
+    /**
+     * Indexes the items already lying in loaded worlds
+     */
+    public void start() {
+        for (World world : Bukkit.getWorlds()) {
+            for (Entity entity : world.getEntities()) {
+                if (entity instanceof Item) {
+                    track((Item) entity);
+                }
+            }
+        }
+        sweepTask = Bukkit.getScheduler().runTaskTimer(PandoraEnchants.getInstance(), this::sweep, SWEEP_PERIOD, SWEEP_PERIOD);
+    }
+    
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        if (sweepTask != null) {
+            sweepTask.cancel();
+            sweepTask = null;
+        }
+        sections.clear();
+        tracked.clear();
+        sweepQueue.clear();
+        recheck.clear();
+        pending.clear();
+        pendingOrder.clear();
+    }
+    
+    public int getTrackedCount() {
+        return tracked.size();
+    }
+    
+    /**
+     * Queues a pull towards the player for every pickable item within the magnet radius
+     * When several magnets reach the same item, the closest player wins
+     * Returns whether any item was in reach
+     */
+    public boolean pull(Player player, int level) {
+        player.getLocation(playerLoc);
+        World world = playerLoc.getWorld();
+        if (world == null) return false;
+        
+        Map<Long, List<Tracked>> worldSections = sections.get(world.getUID());
+        if (worldSections == null || worldSections.isEmpty()) return false;
+        
+        double radius = 5.0 + (level * 2.0); // Much larger radius
+        double speed = 0.5 + (level * 0.1); // Faster attraction
+        double px = playerLoc.getX();
+        double py = playerLoc.getY();
+        double pz = playerLoc.getZ();
+        boolean pulled = false;
+        
+        int minX = floor(px - radius) >> 4, maxX = floor(px + radius) >> 4;
+        int minY = floor(py - radius) >> 4, maxY = floor(py + radius) >> 4;
+        int minZ = floor(pz - radius) >> 4, maxZ = floor(pz + radius) >> 4;
+        
+        for (int sx = minX; sx <= maxX; sx++) {
+            for (int sy = minY; sy <= maxY; sy++) {
+                for (int sz = minZ; sz <= maxZ; sz++) {
+                    long key = sectionKey(sx, sy, sz);
+                    List<Tracked> entries = worldSections.get(key);
+                    if (entries == null) continue;
+                    
+                    // Backwards, so removing or re-bucketing (swap with last) skips nothing
+                    for (int i = entries.size() - 1; i >= 0; i--) {
+                        if (i >= entries.size()) continue;
+                        Tracked entry = entries.get(i);
+                        Item item = entry.item;
+                        if (!item.isValid()) {
+                            untrack(item);
+                            continue;
+                        }
+                        
+                        item.getLocation(itemLoc);
+                        long actual = sectionKey(itemLoc);
+                        if (actual != key) {
+                            move(entry, actual);
+                        }
+                        if (item.getPickupDelay() > 0) continue;
+                        
+                        double dx = px - itemLoc.getX();
+                        double dy = py - itemLoc.getY();
+                        double dz = pz - itemLoc.getZ();
+                        if (Math.abs(dx) > radius || Math.abs(dy) > radius || Math.abs(dz) > radius) continue;
+                        
+                        double distanceSquared = dx * dx + dy * dy + dz * dz;
+                        if (distanceSquared < 1.0E-4) continue;
+                        queue(item, dx, dy, dz, distanceSquared, speed);
+                        pulled = true;
+                    }
+                }
+            }
+        }
+        return pulled;
+    }
+    
+    private void queue(Item item, double dx, double dy, double dz, double distanceSquared, double speed) {
+        Pull pull = pending.get(item.getEntityId());
+        if (pull != null && pull.distanceSquared <= distanceSquared) return;
+        
+        if (pull == null) {
+            pull = new Pull(item);
+            pending.put(item.getEntityId(), pull);
+            pendingOrder.add(pull);
+        }
+        double scale = speed / Math.sqrt(distanceSquared);
+        pull.vx = dx * scale;
+        pull.vy = dy * scale;
+        pull.vz = dz * scale;
+        pull.distanceSquared = distanceSquared;
+        
+        if (flushTask == null) {
+            flushTask = Bukkit.getScheduler().runTask(PandoraEnchants.getInstance(), flushRun);
+        }
+    }
+    
+    /**
+     * Applies every queued pull in one pass
+     */
+    private void flush() {
+        flushTask = null;
+        for (Pull pull : pendingOrder) {
+            if (pull.item.isValid()) {
+                pull.item.setVelocity(new Vector(pull.vx, pull.vy, pull.vz));
+            }
+        }
+        pending.clear();
+        pendingOrder.clear();
+    }
+    
+    /**
+     * Drops removed items and re-buckets moved ones, a SWEEP_PASS share of the index
+     * (at least SWEEP_BUDGET items) per run
+     * The queue is refilled from the index once a full pass is done
+     */
+    private void sweep() {
+        for (Item item : recheck) {
+            if (!item.isValid()) {
+                untrack(item);
+            }
+        }
+        recheck.clear();
+        
+        if (sweepQueue.isEmpty()) {
+            for (Map<Long, List<Tracked>> worldSections : sections.values()) {
+                for (List<Tracked> entries : worldSections.values()) {
+                    for (Tracked entry : entries) {
+                        sweepQueue.add(entry.item);
+                    }
+                }
+            }
+        }
+        
+        int budget = Math.max(SWEEP_BUDGET, tracked.size() / SWEEP_PASS);
+        for (int checked = 0; checked < budget && !sweepQueue.isEmpty(); checked++) {
+            Item item = sweepQueue.poll();
+            Tracked entry = tracked.get(item.getEntityId());
+            if (entry == null || entry.item != item) continue;
+            
+            if (!item.isValid()) {
+                untrack(item);
+                continue;
+            }
+            item.getLocation(itemLoc);
+            if (itemLoc.getWorld() == null || !itemLoc.getWorld().getUID().equals(entry.world)) {
+                untrack(item);
+                track(item);
+                continue;
+            }
+            long actual = sectionKey(itemLoc);
+            if (actual != entry.section) {
+                move(entry, actual);
+            }
+        }
+    }
+    
+    private void track(Item item) {
+        Location loc = item.getLocation(itemLoc);
+        if (loc.getWorld() == null) return;
+        
+        Tracked entry = tracked.get(item.getEntityId());
+        if (entry != null) {
+            if (entry.item == item) return;
+            // Entity id reused by a new item
+            untrack(entry.item);
+        }
+        
+        entry = new Tracked(item, loc.getWorld().getUID(), sectionKey(loc));
+        tracked.put(item.getEntityId(), entry);
+        addToSection(entry);
+    }
+    
+    private void untrack(Item item) {
+        Tracked entry = tracked.get(item.getEntityId());
+        if (entry == null || entry.item != item) return;
+        
+        tracked.remove(item.getEntityId());
+        removeFromSection(entry);
+    }
+    
+    private void move(Tracked entry, long section) {
+        removeFromSection(entry);
+        entry.section = section;
+        addToSection(entry);
+    }
+    
+    private void addToSection(Tracked entry) {
+        List<Tracked> entries = sections.computeIfAbsent(entry.world, k -> new HashMap<>())
+                .computeIfAbsent(entry.section, k -> new ArrayList<>());
+        entry.index = entries.size();
+        entries.add(entry);
+    }
+    
+    private void removeFromSection(Tracked entry) {
+        Map<Long, List<Tracked>> worldSections = sections.get(entry.world);
+        if (worldSections == null) return;
+        
+        List<Tracked> entries = worldSections.get(entry.section);
+        if (entries == null || entry.index >= entries.size() || entries.get(entry.index) != entry) return;
+        
+        // Swap with the last entry, order does not matter
+        int last = entries.size() - 1;
+        Tracked moved = entries.get(last);
+        entries.set(entry.index, moved);
+        moved.index = entry.index;
+        entries.remove(last);
+        if (entries.isEmpty()) {
+            worldSections.remove(entry.section);
+        }
+    }
+    
+    private static int floor(double value) {
+        int i = (int) value;
+        return value < i ? i - 1 : i;
+    }
+    
+    private static long sectionKey(Location loc) {
+        return sectionKey(floor(loc.getX()) >> 4, floor(loc.getY()) >> 4, floor(loc.getZ()) >> 4);
+    }
+    
+    private static long sectionKey(int sectionX, int sectionY, int sectionZ) {
+        return ((long) (sectionX & 0x3FFFFF) << 42) | ((long) (sectionZ & 0x3FFFFF) << 20) | (sectionY & 0xFFFFF);
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemSpawn(ItemSpawnEvent event) {
+        track(event.getEntity());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent event) {
+        // Partial pickups leave the item on the ground
+        if (event.getRemaining() <= 0) {
+            untrack(event.getItem());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHopperPickup(InventoryPickupItemEvent event) {
+        // Hoppers may only take part of the stack, checked on the next sweep
+        recheck.add(event.getItem());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRemove(EntityRemoveEvent event) {
+        // Fire, lava, cactus, the void, /kill...
+        if (event.getEntity() instanceof Item) {
+            untrack((Item) event.getEntity());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDespawn(ItemDespawnEvent event) {
+        untrack(event.getEntity());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMerge(ItemMergeEvent event) {
+        untrack(event.getEntity());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        for (Entity entity : event.getEntities()) {
+            if (entity instanceof Item) {
+                track((Item) entity);
+            }
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        for (Entity entity : event.getEntities()) {
+            if (entity instanceof Item) {
+                untrack((Item) entity);
+            }
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        Map<Long, List<Tracked>> worldSections = sections.remove(event.getWorld().getUID());
+        if (worldSections == null) return;
+        
+        for (List<Tracked> entries : worldSections.values()) {
+            for (Tracked entry : entries) {
+                tracked.remove(entry.item.getEntityId());
+            }
+        }
+    }
+    
+    private static final class Tracked {
+        private final Item item;
+        private final UUID world;
+        private long section;
+        // Position in its section's list
+        private int index;
+        
+        private Tracked(Item item, UUID world, long section) {
+            this.item = item;
+            this.world = world;
+            this.section = section;
+        }
+    }
+    
+    private static final class Pull {
+        private final Item item;
+        private double vx;
+        private double vy;
+        private double vz;
+        private double distanceSquared;
+        
+        private Pull(Item item) {
+            this.item = item;
+        }
+    }
+}
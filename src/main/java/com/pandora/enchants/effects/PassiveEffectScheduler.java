@@ -0,0 +1,203 @@
+package com.pandora.enchants.effects;
+
+import com.pandora.enchants.PandoraEnchants;
+import com.pandora.enchants.engine.EnchantSet;
+import com.pandora.enchants.engine.PandoraEnchant;
+import com.pandora.enchants.engine.PlayerProfileManager;
+import com.pandora.enchants.util.ConfigManager;
+import com.pandora.enchants.util.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * Runs passive armor enchants (regeneration, water_walker, auto_feed, magnet...) on a fixed cadence
+ * Players are spread over N buckets (N = player_idle_trigger_check_frequency in ticks),
+ * so every tick handles 1/N of the online players no matter how much they move
+ * Enchants with a cadence below N (water_walker) run on their own cadence for the players
+ * their bucket pass found wearing them
+ */
+public class PassiveEffectScheduler implements Listener {
+    
+    private final EffectRegistry registry;
+    private final LoadGovernor governor;
+    private final List<List<UUID>> buckets = new ArrayList<>();
+    private final Map<UUID, Integer> bucketOf = new HashMap<>();
+    private final Map<String, Integer> cadences = new HashMap<>();
+    private final Set<UUID> fastPlayers = new LinkedHashSet<>();
+    private int period = 1;
+    private long tick;
+    private BukkitTask task;
+    
+    public PassiveEffectScheduler(EffectRegistry registry, LoadGovernor governor) {
+        this.registry = registry;
+        this.governor = governor;
+    }
+    
+    /**
+     * Reads the check period, buckets online players and starts the tick task
+     */
+    public void start() {
+        period = ConfigManager.getPassiveCheckPeriod();
+        tick = 0;
+        buckets.clear();
+        bucketOf.clear();
+        cadences.clear();
+        fastPlayers.clear();
+        for (int i = 0; i < period; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            addPlayer(player.getUniqueId());
+        }
+        
+        task = Bukkit.getScheduler().runTaskTimer(PandoraEnchants.getInstance(), this::tick, 1L, 1L);
+        Logger.debug(Logger.Category.EFFECTS, () -> "Passive effects: " + period + " tick period, " + bucketOf.size() + " players bucketed");
+    }
+    
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        buckets.clear();
+        bucketOf.clear();
+        fastPlayers.clear();
+    }
+    
+    /**
+     * Number of ticks between two passive checks of the same player
+     */
+    public int getPeriod() {
+        return period;
+    }
+    
+    /**
+     * Ticks between two runs of a passive enchant for the same player (before load shedding)
+     * Cadences below the check period are kept, longer ones are rounded up to whole periods
+     */
+    public int getInterval(String enchant) {
+        int cadence = cadenceFor(enchant);
+        return cadence < period ? cadence : (cadence + period - 1) / period * period;
+    }
+    
+    private void tick() {
+        int index = (int) (tick % period);
+        long cycle = tick / period;
+        long now = tick++;
+        
+        if (!registry.hasBindings(EffectTrigger.PASSIVE)) return;
+        PlayerProfileManager profileManager = PandoraEnchants.getInstance().getProfileManager();
+        
+        for (UUID uuid : buckets.get(index)) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player == null || !player.isOnline() || player.isDead()) continue;
+            
+            boolean fast = false;
+            // Each piece runs its own enchants, so the same enchant on two pieces runs twice
+            for (EnchantSet armor : profileManager.getProfile(player).getArmorPieces()) {
+                for (int i = 0; i < armor.size(); i++) {
+                    PandoraEnchant enchant = armor.getEnchantAt(i);
+                    if (!registry.isBound(EffectTrigger.PASSIVE, enchant)) continue;
+                    
+                    int cadence = cadenceFor(enchant.getNamespacedName());
+                    if (cadence < period) {
+                        // Run by the per-tick pass below
+                        fast = true;
+                        continue;
+                    }
+                    
+                    int cycles = (cadence + period - 1) / period;
+                    if (governor.isReduced() && governor.isOptionalPassive(enchant.getNamespacedName())) {
+                        // Optional passives (magnet) run at half rate under load, not at all when shedding
+                        if (governor.isShedding()) continue;
+                        cycles *= 2;
+                    }
+                    if (cycle % cycles != 0) continue;
+                    
+                    registry.apply(EffectTrigger.PASSIVE, player, enchant, armor.getLevelAt(i), null);
+                }
+            }
+            
+            if (fast) {
+                fastPlayers.add(uuid);
+            } else {
+                fastPlayers.remove(uuid);
+            }
+        }
+        
+        if (fastPlayers.isEmpty()) return;
+        for (UUID uuid : fastPlayers) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player == null || !player.isOnline() || player.isDead()) continue;
+            
+            for (EnchantSet armor : profileManager.getProfile(player).getArmorPieces()) {
+                for (int i = 0; i < armor.size(); i++) {
+                    PandoraEnchant enchant = armor.getEnchantAt(i);
+                    if (!registry.isBound(EffectTrigger.PASSIVE, enchant)) continue;
+                    
+                    int cadence = cadenceFor(enchant.getNamespacedName());
+                    if (cadence >= period) continue;
+                    if (governor.isReduced() && governor.isOptionalPassive(enchant.getNamespacedName())) {
+                        if (governor.isShedding()) continue;
+                        cadence *= 2;
+                    }
+                    if (now % cadence != 0) continue;
+                    
+                    registry.apply(EffectTrigger.PASSIVE, player, enchant, armor.getLevelAt(i), null);
+                }
+            }
+        }
+    }
+    
+    /**
+     * An enchant's configured cadence in ticks (passive_effects.<name>, default one check period)
+     */
+    private int cadenceFor(String enchant) {
+        Integer cadence = cadences.get(enchant);
+        if (cadence == null) {
+            cadence = Math.max(1, ConfigManager.getPassiveCadence(enchant, period));
+            cadences.put(enchant, cadence);
+        }
+        return cadence;
+    }
+    
+    private void addPlayer(UUID uuid) {
+        if (bucketOf.containsKey(uuid) || buckets.isEmpty()) return;
+        
+        // Fill the emptiest bucket so every tick carries about the same load
+        int target = 0;
+        for (int i = 1; i < buckets.size(); i++) {
+            if (buckets.get(i).size() < buckets.get(target).size()) {
+                target = i;
+            }
+        }
+        buckets.get(target).add(uuid);
+        bucketOf.put(uuid, target);
+    }
+    
+    private void removePlayer(UUID uuid) {
+        fastPlayers.remove(uuid);
+        Integer index = bucketOf.remove(uuid);
+        if (index != null && index < buckets.size()) {
+            buckets.get(index).remove(uuid);
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        addPlayer(event.getPlayer().getUniqueId());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        removePlayer(event.getPlayer().getUniqueId());
+    }
+}
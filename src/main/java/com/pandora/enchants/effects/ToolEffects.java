@@ -0,0 +1,315 @@
+package com.pandora.enchants.effects;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockDropItemEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.*;
+
+/**
+ * Pickaxe, axe and shovel enchant effects (ON_BREAK, ON_DROP)
+ */
+public class ToolEffects {
+    
+    // Ore types for vein miner
+    private static final Set<Material> ORE_TYPES = new HashSet<>(Arrays.asList(
+        Material.COAL_ORE, Material.COPPER_ORE, Material.IRON_ORE, Material.GOLD_ORE,
+        Material.LAPIS_ORE, Material.REDSTONE_ORE, Material.DIAMOND_ORE, Material.EMERALD_ORE,
+        Material.NETHER_QUARTZ_ORE, Material.NETHER_GOLD_ORE, Material.ANCIENT_DEBRIS,
+        Material.DEEPSLATE_COAL_ORE, Material.DEEPSLATE_COPPER_ORE, Material.DEEPSLATE_IRON_ORE,
+        Material.DEEPSLATE_GOLD_ORE, Material.DEEPSLATE_LAPIS_ORE, Material.DEEPSLATE_REDSTONE_ORE,
+        Material.DEEPSLATE_DIAMOND_ORE, Material.DEEPSLATE_EMERALD_ORE
+    ));
+    
+    // Wood types for lumberjack
+    private static final Set<Material> WOOD_TYPES = new HashSet<>(Arrays.asList(
+        Material.OAK_LOG, Material.SPRUCE_LOG, Material.BIRCH_LOG, Material.JUNGLE_LOG,
+        Material.ACACIA_LOG, Material.DARK_OAK_LOG, Material.MANGROVE_LOG, Material.CHERRY_LOG,
+        Material.OAK_WOOD, Material.SPRUCE_WOOD, Material.BIRCH_WOOD, Material.JUNGLE_WOOD,
+        Material.ACACIA_WOOD, Material.DARK_OAK_WOOD, Material.MANGROVE_WOOD, Material.CHERRY_WOOD,
+        Material.STRIPPED_OAK_LOG, Material.STRIPPED_SPRUCE_LOG, Material.STRIPPED_BIRCH_LOG,
+        Material.STRIPPED_JUNGLE_LOG, Material.STRIPPED_ACACIA_LOG, Material.STRIPPED_DARK_OAK_LOG,
+        Material.STRIPPED_MANGROVE_LOG, Material.STRIPPED_CHERRY_WOOD, Material.STRIPPED_CHERRY_LOG
+    ));
+    
+    private final Random random = new Random();
+    private final BlockBreakEngine breakEngine;
+    private final CooldownService cooldowns;
+    private final EffectEmitter emitter;
+    
+    public ToolEffects(BlockBreakEngine breakEngine, CooldownService cooldowns, EffectEmitter emitter) {
+        this.breakEngine = breakEngine;
+        this.cooldowns = cooldowns;
+        this.emitter = emitter;
+    }
+    
+    public void register(EffectRegistry registry) {
+        registry.register("vein_miner", EffectTrigger.ON_BREAK, this::veinMiner);
+        registry.register("autosmelt", EffectTrigger.ON_BREAK, this::autosmeltBreak);
+        registry.register("experience", EffectTrigger.ON_BREAK, this::experience);
+        registry.register("lumberjack", EffectTrigger.ON_BREAK, this::lumberjack);
+        registry.register("tunnel", EffectTrigger.ON_BREAK, this::tunnel);
+        registry.register("jackhammer", EffectTrigger.ON_BREAK, this::jackhammer);
+        
+        registry.register("autosmelt", EffectTrigger.ON_DROP, this::autosmeltDrop);
+        registry.register("telekinesis", EffectTrigger.ON_DROP, this::telekinesis);
+    }
+    
+    /**
+     * Cancels the player's pending multi-block breaks (called on quit)
+     */
+    public void forget(UUID uuid) {
+        breakEngine.cancel(uuid);
+    }
+    
+    // ============================================
+    // ON BREAK
+    // ============================================
+    
+    private void veinMiner(Player player, int level, BlockBreakEvent event) {
+        Block block = event.getBlock();
+        Location loc = block.getLocation();
+        
+        if (ORE_TYPES.contains(block.getType()) && random.nextDouble() < (0.3 + (level * 0.1))) {
+            cooldowns.proc();
+            emitter.sound(player, loc, Sound.BLOCK_STONE_BREAK, 0.5f, 0.9f);
+            if (loc.getWorld() != null) {
+                emitter.particle(Particle.BLOCK, loc.add(0.5, 0.5, 0.5), 5, 0.25, 0.25, 0.25, 0.0625);
+            }
+            breakConnectedOres(player, block, level);
+        }
+    }
+    
+    private void autosmeltBreak(Player player, int level, BlockBreakEvent event) {
+        Location loc = event.getBlock().getLocation();
+        cooldowns.proc();
+        emitter.sound(player, loc, Sound.BLOCK_FIRE_EXTINGUISH, 0.375f, 0.8f);
+        if (loc.getWorld() != null) {
+            emitter.particle(Particle.FLAME, loc.add(0.5, 0.5, 0.5), 3, 0.25, 0.25, 0.25, 0.0375);
+            emitter.particle(Particle.SMOKE, loc, 4, 0.1875, 0.1875, 0.1875, 0.0125);
+        }
+    }
+    
+    private void experience(Player player, int level, BlockBreakEvent event) {
+        Block block = event.getBlock();
+        Location loc = block.getLocation();
+        
+        if (ORE_TYPES.contains(block.getType()) && random.nextDouble() < (0.4 * level)) {
+            cooldowns.proc();
+            int expAmount = 5 + random.nextInt(10); // Much more XP
+            player.giveExp(expAmount);
+            emitter.sound(player, loc, Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.625f, 1.0f);
+            if (loc.getWorld() != null) {
+                emitter.particle(Particle.HAPPY_VILLAGER, loc.add(0.5, 0.5, 0.5), 5, 0.25, 0.25, 0.25, 0.0625);
+                emitter.particle(Particle.HAPPY_VILLAGER, loc, 4, 0.1875, 0.1875, 0.1875, 0.0375);
+            }
+        }
+    }
+    
+    private void lumberjack(Player player, int level, BlockBreakEvent event) {
+        Block block = event.getBlock();
+        Location loc = block.getLocation();
+        
+        if (WOOD_TYPES.contains(block.getType())) {
+            cooldowns.proc();
+            emitter.sound(player, loc, Sound.BLOCK_WOOD_BREAK, 0.625f, 0.7f);
+            if (loc.getWorld() != null) {
+                emitter.particle(Particle.BLOCK, loc.add(0.5, 0.5, 0.5), 4, 0.25, 0.25, 0.25, 0.0375);
+            }
+            breakConnectedLogs(player, block);
+        }
+    }
+    
+    private void tunnel(Player player, int level, BlockBreakEvent event) {
+        if (random.nextDouble() < (0.3 * level)) {
+            cooldowns.proc();
+            Block block = event.getBlock();
+            emitter.sound(player, block.getLocation(), Sound.BLOCK_STONE_BREAK, 0.375f, 1.0f);
+            BlockFace face = getBlockFaceFromYaw(player.getLocation().getYaw());
+            breakTunnel(player, block, face, level);
+        }
+    }
+    
+    private void jackhammer(Player player, int level, BlockBreakEvent event) {
+        if (random.nextDouble() < (0.4 * level)) {
+            cooldowns.proc();
+            Block block = event.getBlock();
+            Location loc = block.getLocation();
+            emitter.sound(player, loc, Sound.BLOCK_STONE_BREAK, 0.625f, 0.6f);
+            if (loc.getWorld() != null) {
+                emitter.particle(Particle.BLOCK, loc.add(0.5, 0.5, 0.5), 6, 0.375, 0.375, 0.375, 0.0625);
+                emitter.particle(Particle.EXPLOSION, loc, 3, 0.1875, 0.1875, 0.1875, 0.0375);
+            }
+            breakArea(player, block, level);
+        }
+    }
+    
+    // ============================================
+    // ON DROP
+    // ============================================
+    
+    private void autosmeltDrop(Player player, int level, BlockDropItemEvent event) {
+        Block block = event.getBlock();
+        boolean smelted = false;
+        
+        // Each smeltable drop is replaced one for one, so fortune multiplies the result
+        // (same rule as DropCollector for multi-block breaks)
+        Iterator<Item> items = event.getItems().iterator();
+        while (items.hasNext()) {
+            ItemStack stack = items.next().getItemStack();
+            Material smeltedType = getSmeltedResult(stack.getType());
+            if (smeltedType == null) continue; // Not smeltable
+            
+            items.remove();
+            smelted = true;
+            HashMap<Integer, ItemStack> leftover = player.getInventory().addItem(new ItemStack(smeltedType, stack.getAmount()));
+            
+            // Drop any leftover items
+            for (ItemStack left : leftover.values()) {
+                block.getWorld().dropItemNaturally(block.getLocation(), left);
+            }
+        }
+        if (!smelted) return;
+        cooldowns.proc();
+        
+        // Visual effects
+        if (block.getWorld() != null) {
+            emitter.particle(Particle.FLAME, block.getLocation().add(0.5, 0.5, 0.5), 4, 0.25, 0.25, 0.25, 0.0375);
+            emitter.particle(Particle.SMOKE, block.getLocation(), 3, 0.1875, 0.1875, 0.1875, 0.0125);
+        }
+    }
+    
+    private void telekinesis(Player player, int level, BlockDropItemEvent event) {
+        if (!event.getItems().isEmpty()) {
+            cooldowns.proc();
+        }
+        
+        // Move all items directly to player inventory
+        for (Item item : event.getItems()) {
+            ItemStack stack = item.getItemStack();
+            HashMap<Integer, ItemStack> leftover = player.getInventory().addItem(stack);
+            
+            // Drop any leftover items that don't fit
+            for (ItemStack left : leftover.values()) {
+                event.getBlock().getWorld().dropItemNaturally(event.getBlock().getLocation(), left);
+            }
+            
+            item.remove();
+        }
+        
+        // Clear the drop list since we handled it manually
+        event.getItems().clear();
+        
+        // Visual effects
+        Location loc = event.getBlock().getLocation();
+        emitter.sound(player, loc, Sound.ENTITY_ENDERMAN_TELEPORT, 0.375f, 1.8f);
+        if (loc.getWorld() != null) {
+            emitter.particle(Particle.PORTAL, loc.add(0.5, 0.5, 0.5), 6, 0.25, 0.25, 0.25, 0.0625);
+        }
+    }
+    
+    // ============================================
+    // MULTI-BLOCK HELPERS
+    // ============================================
+    
+    private void breakConnectedOres(Player player, Block startBlock, int level) {
+        Material oreType = startBlock.getType();
+        if (!ORE_TYPES.contains(oreType)) return;
+        
+        int maxBlocks = 20 + (level * 10); // Much more blocks
+        breakEngine.breakConnected(player, startBlock, type -> type == oreType, maxBlocks);
+    }
+    
+    private void breakConnectedLogs(Player player, Block startBlock) {
+        if (!WOOD_TYPES.contains(startBlock.getType())) return;
+        
+        int maxBlocks = 100; // Much larger trees
+        breakEngine.breakConnected(player, startBlock, WOOD_TYPES::contains, maxBlocks);
+    }
+    
+    private void breakTunnel(Player player, Block startBlock, BlockFace face, int level) {
+        int length = 5 + (level * 2); // Much longer tunnels
+        long[] positions = new long[length];
+        
+        for (int i = 1; i <= length; i++) {
+            positions[i - 1] = BlockBreakEngine.pack(startBlock.getX() + face.getModX() * i,
+                startBlock.getY() + face.getModY() * i, startBlock.getZ() + face.getModZ() * i);
+        }
+        breakEngine.breakBlocks(player, startBlock.getWorld(), positions);
+    }
+    
+    private void breakArea(Player player, Block center, int level) {
+        int size = 2 + level; // 3x3 at level 1, 4x4 at level 2, etc.
+        int width = size * 2 + 1;
+        long[] positions = new long[width * width * width - 1];
+        int count = 0;
+        
+        for (int x = -size; x <= size; x++) {
+            for (int y = -size; y <= size; y++) {
+                for (int z = -size; z <= size; z++) {
+                    if (x == 0 && y == 0 && z == 0) continue; // Skip center (already broken)
+                    positions[count++] = BlockBreakEngine.pack(center.getX() + x, center.getY() + y, center.getZ() + z);
+                }
+            }
+        }
+        breakEngine.breakBlocks(player, center.getWorld(), positions);
+    }
+    
+    static Material getSmeltedResult(Material ore) {
+        switch (ore) {
+            case IRON_ORE:
+            case DEEPSLATE_IRON_ORE:
+                return Material.IRON_INGOT;
+            case GOLD_ORE:
+            case DEEPSLATE_GOLD_ORE:
+            case NETHER_GOLD_ORE:
+                return Material.GOLD_INGOT;
+            case COPPER_ORE:
+            case DEEPSLATE_COPPER_ORE:
+                return Material.COPPER_INGOT;
+            case COAL_ORE:
+            case DEEPSLATE_COAL_ORE:
+                return Material.COAL;
+            case DIAMOND_ORE:
+            case DEEPSLATE_DIAMOND_ORE:
+                return Material.DIAMOND;
+            case EMERALD_ORE:
+            case DEEPSLATE_EMERALD_ORE:
+                return Material.EMERALD;
+            case LAPIS_ORE:
+            case DEEPSLATE_LAPIS_ORE:
+                return Material.LAPIS_LAZULI;
+            case REDSTONE_ORE:
+            case DEEPSLATE_REDSTONE_ORE:
+                return Material.REDSTONE;
+            case NETHER_QUARTZ_ORE:
+                return Material.QUARTZ;
+            case ANCIENT_DEBRIS:
+                return Material.NETHERITE_SCRAP;
+            case RAW_IRON:
+                return Material.IRON_INGOT;
+            case RAW_COPPER:
+                return Material.COPPER_INGOT;
+            case RAW_GOLD:
+                return Material.GOLD_INGOT;
+            default:
+                return null;
+        }
+    }
+    
+    private BlockFace getBlockFaceFromYaw(float yaw) {
+        yaw = (yaw % 360 + 360) % 360;
+        if (yaw >= 315 || yaw < 45) return BlockFace.SOUTH;
+        if (yaw >= 45 && yaw < 135) return BlockFace.WEST;
+        if (yaw >= 135 && yaw < 225) return BlockFace.NORTH;
+        return BlockFace.EAST;
+    }
+}
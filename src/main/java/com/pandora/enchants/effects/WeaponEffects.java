@@ -0,0 +1,388 @@
+package com.pandora.enchants.effects;
+
+import com.pandora.enchants.PandoraEnchants;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.ProjectileHitEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Sword, axe and bow enchant effects (ON_HIT, ON_KILL, ON_PROJECTILE_HIT)
+ */
+public class WeaponEffects {
+    
+    private final Random random = new Random();
+    private final DotManager dotManager;
+    private final CooldownService cooldowns;
+    private final EffectEmitter emitter;
+    private final AoeEngine aoeEngine;
+    private final ExplosionScheduler explosions;
+    private final LoadGovernor governor;
+    
+    public WeaponEffects(DotManager dotManager, CooldownService cooldowns, EffectEmitter emitter, AoeEngine aoeEngine,
+                         ExplosionScheduler explosions, LoadGovernor governor) {
+        this.dotManager = dotManager;
+        this.cooldowns = cooldowns;
+        this.emitter = emitter;
+        this.aoeEngine = aoeEngine;
+        this.explosions = explosions;
+        this.governor = governor;
+    }
+    
+    public void register(EffectRegistry registry) {
+        registry.register("lifesteal", EffectTrigger.ON_HIT, this::lifesteal);
+        registry.register("lightning", EffectTrigger.ON_HIT, this::lightning);
+        registry.register("venom", EffectTrigger.ON_HIT, this::venom);
+        registry.register("wither", EffectTrigger.ON_HIT, this::wither);
+        registry.register("critical", EffectTrigger.ON_HIT, this::critical);
+        registry.register("execute", EffectTrigger.ON_HIT, this::execute);
+        registry.register("freeze", EffectTrigger.ON_HIT, this::freeze);
+        registry.register("execute_plus", EffectTrigger.ON_HIT, this::executePlus);
+        registry.register("bleed", EffectTrigger.ON_HIT, this::bleed);
+        registry.register("rage", EffectTrigger.ON_HIT, this::rage);
+        registry.register("cleave", EffectTrigger.ON_HIT, this::cleave);
+        registry.register("disarm", EffectTrigger.ON_HIT, this::disarm);
+        registry.register("leech", EffectTrigger.ON_HIT, this::leech);
+        registry.register("vampire", EffectTrigger.ON_HIT, this::vampire);
+        
+        registry.register("soul_siphon", EffectTrigger.ON_KILL, this::soulSiphon);
+        
+        registry.register("explosive", EffectTrigger.ON_PROJECTILE_HIT, this::explosive);
+        registry.register("poison_arrow", EffectTrigger.ON_PROJECTILE_HIT, this::poisonArrow);
+        registry.register("homing", EffectTrigger.ON_PROJECTILE_HIT, this::homing);
+        registry.register("multi_shot", EffectTrigger.ON_PROJECTILE_HIT, this::multiShot);
+        registry.register("pierce", EffectTrigger.ON_PROJECTILE_HIT, this::pierce);
+    }
+    
+    // ============================================
+    // ON HIT
+    // ============================================
+    
+    private void lifesteal(Player player, int level, EntityDamageByEntityEvent event) {
+        // MUCH stronger healing - 2-3x vanilla
+        double heal = 1.5 + (level * 1.0); // Base 1.5, +1 per level
+        cooldowns.proc();
+        double newHealth = Math.min(player.getHealth() + heal, player.getMaxHealth());
+        player.setHealth(newHealth);
+        emitter.sound(player, player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.625f, 1.14f);
+        emitter.particle(player, Particle.HEART, player.getLocation().add(0, 1, 0), 3, 0.3125, 0.3125, 0.3125, 0);
+        emitter.particle(player, Particle.HAPPY_VILLAGER, player.getLocation().add(0, 1.5, 0), 1, 0.1875, 0.1875, 0.1875, 0);
+    }
+    
+    private void lightning(Player player, int level, EntityDamageByEntityEvent event) {
+        Location loc = event.getEntity().getLocation();
+        
+        // Higher chance and multiple strikes
+        if (random.nextDouble() < (0.2 + (level * 0.1)) && loc.getWorld() != null) {
+            cooldowns.proc();
+            loc.getWorld().strikeLightningEffect(loc);
+            if (level >= 2 && !governor.isReduced()) {
+                // Multiple strikes for higher levels (cosmetic, dropped under load)
+                dotManager.repeat(5, level - 1, () -> {
+                    Location strikeLoc = loc.clone().add(
+                        (random.nextDouble() - 0.5) * 3,
+                        0,
+                        (random.nextDouble() - 0.5) * 3
+                    );
+                    loc.getWorld().strikeLightningEffect(strikeLoc);
+                });
+            }
+            emitter.sound(player, loc, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 0.75f, 0.76f);
+            emitter.particle(Particle.ELECTRIC_SPARK, loc, 10, 0.375, 0.75, 0.375, 0.0625);
+        }
+    }
+    
+    private void venom(Player player, int level, EntityDamageByEntityEvent event) {
+        if (!(event.getEntity() instanceof LivingEntity)) return;
+        LivingEntity target = (LivingEntity) event.getEntity();
+        Location loc = target.getLocation();
+        
+        // NO POTION EFFECTS - use damage over time instead
+        double damagePerTick = 0.5 + (level * 0.3);
+        dotManager.apply(target, DotManager.Type.VENOM, damagePerTick, level * 4);
+        cooldowns.proc();
+        emitter.sound(player, loc, Sound.ENTITY_SPIDER_AMBIENT, 0.625f, 0.67f);
+        if (loc.getWorld() != null) {
+            emitter.particle(Particle.ITEM_SLIME, loc.add(0, 1, 0), 8, 0.4375, 0.4375, 0.4375, 0.0625);
+            emitter.particle(Particle.ENCHANT, loc, 5, 0.375, 0.375, 0.375, 0.0375);
+        }
+    }
+    
+    private void wither(Player player, int level, EntityDamageByEntityEvent event) {
+        if (!(event.getEntity() instanceof LivingEntity)) return;
+        LivingEntity target = (LivingEntity) event.getEntity();
+        Location loc = target.getLocation();
+        
+        // NO POTION EFFECTS - use damage over time instead
+        double damagePerTick = 0.8 + (level * 0.4);
+        dotManager.apply(target, DotManager.Type.WITHER, damagePerTick, level * 5);
+        cooldowns.proc();
+        emitter.sound(player, loc, Sound.ENTITY_WITHER_HURT, 0.625f, 0.9f);
+        if (loc.getWorld() != null) {
+            emitter.particle(Particle.SMOKE, loc.add(0, 1, 0), 10, 0.5, 0.5, 0.5, 0.0625);
+            emitter.particle(Particle.SOUL, loc, 6, 0.375, 0.375, 0.375, 0.0375);
+        }
+    }
+    
+    private void critical(Player player, int level, EntityDamageByEntityEvent event) {
+        // Much higher chance and damage
+        if (random.nextDouble() < (0.25 + (level * 0.1))) {
+            cooldowns.proc();
+            Location loc = event.getEntity().getLocation();
+            double multiplier = 2.5 + (level * 0.5); // 2.5x to 5x damage
+            event.setDamage(event.getDamage() * multiplier);
+            emitter.sound(player, loc, Sound.ENTITY_PLAYER_ATTACK_CRIT, 0.875f, 0.76f);
+            if (loc.getWorld() != null) {
+                emitter.particle(Particle.CRIT, loc.add(0, 1, 0), 10, 0.625, 0.625, 0.625, 0.125);
+                emitter.particle(Particle.DAMAGE_INDICATOR, loc.add(0, 1.5, 0), 8, 0.375, 0.375, 0.375, 0.0625);
+            }
+        }
+    }
+    
+    private void execute(Player player, int level, EntityDamageByEntityEvent event) {
+        if (!(event.getEntity() instanceof LivingEntity)) return;
+        LivingEntity target = (LivingEntity) event.getEntity();
+        Location loc = target.getLocation();
+        
+        double healthPercent = target.getHealth() / target.getMaxHealth();
+        if (healthPercent < 0.4) { // Trigger earlier
+            cooldowns.proc();
+            double bonus = 2.0 + ((1.0 - healthPercent) * 1.5 * level); // Much stronger
+            event.setDamage(event.getDamage() * bonus);
+            emitter.sound(player, loc, Sound.ENTITY_PLAYER_ATTACK_STRONG, 0.75f, 0.7f);
+            if (loc.getWorld() != null) {
+                emitter.particle(Particle.DAMAGE_INDICATOR, loc.add(0, 1, 0), 10, 0.5, 0.5, 0.5, 0.1);
+                emitter.particle(Particle.SWEEP_ATTACK, loc, 6, 0.375, 0.375, 0.375, 0.0625);
+            }
+        }
+    }
+    
+    private void freeze(Player player, int level, EntityDamageByEntityEvent event) {
+        if (!(event.getEntity() instanceof LivingEntity)) return;
+        LivingEntity target = (LivingEntity) event.getEntity();
+        Location loc = target.getLocation();
+        
+        target.setFreezeTicks(60 + (level * 30)); // Longer freeze
+        cooldowns.proc();
+        if (loc.getWorld() != null) {
+            emitter.particle(Particle.SNOWFLAKE, loc, 13, 0.625, 0.625, 0.625, 0.0625);
+            emitter.particle(Particle.ITEM_SNOWBALL, loc, 8, 0.375, 0.375, 0.375, 0.0375);
+        }
+        emitter.sound(player, loc, Sound.BLOCK_SNOW_BREAK, 0.625f, 0.8f);
+        emitter.sound(player, loc, Sound.BLOCK_GLASS_BREAK, 0.5f, 1.2f);
+    }
+    
+    private void executePlus(Player player, int level, EntityDamageByEntityEvent event) {
+        if (!(event.getEntity() instanceof LivingEntity)) return;
+        LivingEntity target = (LivingEntity) event.getEntity();
+        Location loc = target.getLocation();
+        
+        double healthPercent = target.getHealth() / target.getMaxHealth();
+        if (healthPercent < 0.5) { // Trigger earlier
+            cooldowns.proc();
+            double bonus = 3.0 + ((1.0 - healthPercent) * 2.0 * level); // Extreme damage
+            event.setDamage(event.getDamage() * bonus);
+            emitter.sound(player, loc, Sound.ENTITY_PLAYER_ATTACK_STRONG, 0.875f, 0.6f);
+            if (loc.getWorld() != null) {
+                emitter.particle(Particle.DAMAGE_INDICATOR, loc.add(0, 1, 0), 13, 0.625, 0.625, 0.625, 0.125);
+                emitter.particle(Particle.EXPLOSION, loc, 1, 0, 0, 0, 0);
+            }
+        }
+    }
+    
+    private void bleed(Player player, int level, EntityDamageByEntityEvent event) {
+        if (!(event.getEntity() instanceof LivingEntity)) return;
+        LivingEntity target = (LivingEntity) event.getEntity();
+        Location loc = target.getLocation();
+        
+        cooldowns.proc();
+        emitter.sound(player, loc, Sound.ENTITY_PLAYER_HURT, 0.625f, 0.9f);
+        if (loc.getWorld() != null) {
+            emitter.particle(Particle.DUST, loc.add(0, 1, 0), 8, 0.375, 0.375, 0.375, 0.0625);
+            emitter.particle(Particle.DUST, loc, 5, 0.3125, 0.3125, 0.3125, 0.0375);
+        }
+        
+        // Much stronger bleed damage, stacking on repeated hits
+        dotManager.apply(target, DotManager.Type.BLEED, 1.0 + (level * 0.5), level * 30);
+    }
+    
+    private void rage(Player player, int level, EntityDamageByEntityEvent event) {
+        if (player.getHealth() >= player.getMaxHealth()) return;
+        Location loc = event.getEntity().getLocation();
+        
+        double healthPercent = player.getHealth() / player.getMaxHealth();
+        double damageMultiplier = 1.5 + ((1.0 - healthPercent) * 1.5 * level); // Much stronger
+        event.setDamage(event.getDamage() * damageMultiplier);
+        cooldowns.proc();
+        if (healthPercent < 0.6) {
+            emitter.sound(player, loc, Sound.ENTITY_RAVAGER_ROAR, 0.5f, 1.0f);
+            if (loc.getWorld() != null) {
+                emitter.particle(Particle.ANGRY_VILLAGER, loc.add(0, 1, 0), 5, 0.375, 0.375, 0.375, 0.0625);
+                emitter.particle(Particle.FLAME, loc, 4, 0.25, 0.25, 0.25, 0.0375);
+            }
+        }
+    }
+    
+    private void cleave(Player player, int level, EntityDamageByEntityEvent event) {
+        Location loc = event.getEntity().getLocation();
+        
+        // Much higher chance and radius
+        if (random.nextDouble() < (0.4 + (level * 0.1)) && loc.getWorld() != null) {
+            cooldowns.proc();
+            double radius = 3.0 + (level * 1.0); // Larger radius
+            double damage = event.getDamage() * (0.5 + (level * 0.15)); // More damage
+            List<LivingEntity> hit = aoeEngine.strike(player, event.getEntity(), loc, radius, damage);
+            for (LivingEntity nearbyEntity : hit) {
+                emitter.particle(Particle.SWEEP_ATTACK,
+                    nearbyEntity.getLocation().add(0, 1, 0), 5, 0.375, 0.375, 0.375, 0.0625);
+            }
+            if (!hit.isEmpty()) {
+                emitter.sound(player, loc, Sound.ENTITY_PLAYER_ATTACK_SWEEP, 0.75f, 0.9f);
+                emitter.particle(Particle.SWEEP_ATTACK, loc, 8, radius * 0.75, radius * 0.75, radius * 0.75, 0.0625);
+            }
+        }
+    }
+    
+    private void disarm(Player player, int level, EntityDamageByEntityEvent event) {
+        // Higher chance
+        if (random.nextDouble() < (0.15 + (level * 0.05)) && event.getEntity() instanceof Player) {
+            Player targetPlayer = (Player) event.getEntity();
+            Location loc = targetPlayer.getLocation();
+            ItemStack mainHand = targetPlayer.getInventory().getItemInMainHand();
+            if (mainHand != null && !mainHand.getType().isAir()) {
+                cooldowns.proc();
+                targetPlayer.getWorld().dropItemNaturally(targetPlayer.getLocation(), mainHand);
+                targetPlayer.getInventory().setItemInMainHand(null);
+                // No event reports the emptied hand
+                PandoraEnchants.getInstance().getProfileManager().markDirty(targetPlayer);
+                emitter.sound(player, loc, Sound.ENTITY_ITEM_PICKUP, 0.75f, 0.3f);
+                if (loc.getWorld() != null) {
+                    emitter.particle(Particle.ITEM, loc, 10, 0.375, 0.375, 0.375, 0.1);
+                    emitter.particle(Particle.CRIT, loc, 6, 0.3125, 0.3125, 0.3125, 0.0625);
+                }
+            }
+        }
+    }
+    
+    private void leech(Player player, int level, EntityDamageByEntityEvent event) {
+        if (!(event.getEntity() instanceof LivingEntity)) return;
+        LivingEntity target = (LivingEntity) event.getEntity();
+        Location loc = target.getLocation();
+        
+        double steal = 1.0 + (level * 0.5); // Much stronger
+        double newHealth = Math.min(player.getHealth() + steal, player.getMaxHealth());
+        player.setHealth(newHealth);
+        double newTargetHealth = Math.max(0, target.getHealth() - steal);
+        target.setHealth(newTargetHealth);
+        cooldowns.proc();
+        emitter.sound(player, player.getLocation(), Sound.ENTITY_WITCH_DRINK, 0.625f, 1.0f);
+        if (loc.getWorld() != null) {
+            emitter.particle(Particle.HEART, player.getLocation().add(0, 1, 0), 4, 0.3125, 0.3125, 0.3125, 0.0625);
+            emitter.particle(Particle.SOUL, loc.add(0, 1, 0), 5, 0.3125, 0.3125, 0.3125, 0.0375);
+        }
+    }
+    
+    private void vampire(Player player, int level, EntityDamageByEntityEvent event) {
+        if (!(event.getEntity() instanceof LivingEntity)) return;
+        Location loc = event.getEntity().getLocation();
+        
+        double healAmount = event.getDamage() * (0.3 + (level * 0.15)); // Much stronger healing
+        double newHealth = Math.min(player.getHealth() + healAmount, player.getMaxHealth());
+        player.setHealth(newHealth);
+        cooldowns.proc();
+        emitter.sound(player, player.getLocation(), Sound.ENTITY_WITHER_AMBIENT, 0.625f, 1.0f);
+        if (loc.getWorld() != null) {
+            emitter.particle(Particle.HEART, player.getLocation().add(0, 1, 0), 5, 0.375, 0.375, 0.375, 0.0625);
+            emitter.particle(Particle.SOUL, loc.add(0, 1, 0), 8, 0.375, 0.375, 0.375, 0.0625);
+            emitter.particle(Particle.REVERSE_PORTAL, loc, 6, 0.3125, 0.3125, 0.3125, 0.0375);
+        }
+    }
+    
+    // ============================================
+    // ON KILL
+    // ============================================
+    
+    private void soulSiphon(Player killer, int level, EntityDeathEvent event) {
+        Location loc = event.getEntity().getLocation();
+        
+        double heal = 4.0 + (level * 2.0); // Much stronger
+        double newHealth = Math.min(killer.getHealth() + heal, killer.getMaxHealth());
+        killer.setHealth(newHealth);
+        cooldowns.proc();
+        // NO POTION EFFECTS - use visual effects only
+        emitter.sound(killer, loc, Sound.ENTITY_WITHER_AMBIENT, 0.75f, 0.6f);
+        if (loc.getWorld() != null) {
+            emitter.particle(Particle.SOUL, loc, 15, 0.625, 0.625, 0.625, 0.125);
+            emitter.particle(Particle.REVERSE_PORTAL, loc, 10, 0.5, 0.5, 0.5, 0.0625);
+            emitter.particle(Particle.HEART, killer.getLocation().add(0, 1, 0), 6, 0.375, 0.375, 0.375, 0.0625);
+        }
+    }
+    
+    // ============================================
+    // ON PROJECTILE HIT
+    // ============================================
+    
+    private void explosive(Player shooter, int level, ProjectileHitEvent event) {
+        Location loc = event.getEntity().getLocation();
+        if (loc.getWorld() == null) return;
+        
+        float power = 2.0f + (level * 1.0f); // Much stronger explosions
+        // Batched, arrows landing together go off as one explosion
+        explosions.queue(loc, power);
+        cooldowns.proc();
+        emitter.sound(shooter, loc, Sound.ENTITY_GENERIC_EXPLODE, 0.875f, 0.8f);
+    }
+    
+    private void poisonArrow(Player shooter, int level, ProjectileHitEvent event) {
+        if (!(event.getHitEntity() instanceof LivingEntity)) return;
+        LivingEntity target = (LivingEntity) event.getHitEntity();
+        Location loc = event.getEntity().getLocation();
+        
+        // NO POTION EFFECTS - use damage over time instead
+        dotManager.apply(target, DotManager.Type.POISON, 1.0 + (level * 0.5), level * 3);
+        cooldowns.proc();
+        emitter.sound(shooter, loc, Sound.ENTITY_SPIDER_AMBIENT, 0.75f, 0.8f);
+        if (loc.getWorld() != null) {
+            emitter.particle(Particle.ITEM_SLIME, loc.add(0, 1, 0), 6, 0.375, 0.375, 0.375, 0.0625);
+            emitter.particle(Particle.ENCHANT, loc, 4, 0.375, 0.375, 0.375, 0.0375);
+        }
+    }
+    
+    private void homing(Player shooter, int level, ProjectileHitEvent event) {
+        Location loc = event.getEntity().getLocation();
+        cooldowns.proc();
+        emitter.sound(shooter, loc, Sound.ENTITY_ENDER_EYE_LAUNCH, 0.75f, 1.0f);
+        if (loc.getWorld() != null) {
+            emitter.particle(Particle.PORTAL, loc, 13, 0.375, 0.375, 0.375, 0.125);
+            emitter.particle(Particle.REVERSE_PORTAL, loc, 8, 0.25, 0.25, 0.25, 0.0625);
+        }
+    }
+    
+    private void multiShot(Player shooter, int level, ProjectileHitEvent event) {
+        Location loc = event.getEntity().getLocation();
+        cooldowns.proc();
+        emitter.sound(shooter, loc, Sound.ENTITY_ARROW_SHOOT, 0.75f, 1.0f);
+        if (loc.getWorld() != null) {
+            emitter.particle(Particle.CRIT, loc, 8, 0.375, 0.375, 0.375, 0.0625);
+        }
+    }
+    
+    private void pierce(Player shooter, int level, ProjectileHitEvent event) {
+        Location loc = event.getEntity().getLocation();
+        cooldowns.proc();
+        emitter.sound(shooter, loc, Sound.ENTITY_ARROW_HIT, 0.625f, 0.9f);
+        if (loc.getWorld() != null) {
+            emitter.particle(Particle.CRIT, loc, 6, 0.375, 0.375, 0.375, 0.0625);
+            emitter.particle(Particle.SWEEP_ATTACK, loc, 4, 0.25, 0.25, 0.25, 0.0375);
+        }
+    }
+}
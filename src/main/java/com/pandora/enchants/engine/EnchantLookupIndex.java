@@ -0,0 +1,125 @@
+package com.pandora.enchants.engine;
+
+import com.pandora.enchants.util.Logger;
+
+import java.util.*;
+
+/**
+ * Immutable name index used to resolve lore text to enchantments
+ * Built once per load/reload; exact names and aliases are a single hash probe,
+ * fuzzy matches are resolved once per distinct line and kept in an LRU memo of the most recent lines
+ */
+public final class EnchantLookupIndex {
+    
+    static final EnchantLookupIndex EMPTY = new EnchantLookupIndex(Collections.emptyList());
+    
+    private static final int MAX_FUZZY_ENTRIES = 1024;
+    private static final String[] IGNORED_PREFIXES = {"•", "-", ">", "»", "*"};
+    
+    private final Map<String, PandoraEnchant> byAlias;
+    private final PandoraEnchant[] fuzzyOrder;
+    private final String[] fuzzyDisplay;
+    private final String[] fuzzyNamespaced;
+    // Access-ordered, so every lookup (even a hit) must hold the lock
+    private final Map<String, Optional<PandoraEnchant>> fuzzyMemo = Collections.synchronizedMap(
+            new LinkedHashMap<String, Optional<PandoraEnchant>>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Optional<PandoraEnchant>> eldest) {
+                    return size() > MAX_FUZZY_ENTRIES;
+                }
+            });
+    
+    EnchantLookupIndex(Collection<PandoraEnchant> enchants) {
+        Map<String, PandoraEnchant> aliases = new HashMap<>();
+        
+        // Namespaced names first so they win over display-name aliases of other enchants
+        for (PandoraEnchant enchant : enchants) {
+            aliases.put(enchant.getNamespacedName().toLowerCase(), enchant);
+        }
+        for (PandoraEnchant enchant : enchants) {
+            addAlias(aliases, normalize(enchant.getName()), enchant);
+            addAlias(aliases, normalize(enchant.getNamespacedName()), enchant);
+        }
+        this.byAlias = Collections.unmodifiableMap(aliases);
+        
+        // Longest names first so "Execute Plus" is never fuzzy-matched as "Execute"
+        List<PandoraEnchant> ordered = new ArrayList<>(enchants);
+        ordered.sort(Comparator.comparingInt((PandoraEnchant e) -> e.getName().length()).reversed()
+                .thenComparing(PandoraEnchant::getNamespacedName));
+        this.fuzzyOrder = ordered.toArray(new PandoraEnchant[0]);
+        this.fuzzyDisplay = new String[fuzzyOrder.length];
+        this.fuzzyNamespaced = new String[fuzzyOrder.length];
+        for (int i = 0; i < fuzzyOrder.length; i++) {
+            fuzzyDisplay[i] = fuzzyOrder[i].getName().toLowerCase();
+            fuzzyNamespaced[i] = fuzzyOrder[i].getNamespacedName().toLowerCase();
+        }
+    }
+    
+    /**
+     * Resolves an enchant name taken from lore (colors and level numeral already stripped)
+     */
+    public PandoraEnchant resolve(String name) {
+        if (name == null) return null;
+        
+        String key = normalize(name);
+        if (key.isEmpty()) return null;
+        
+        PandoraEnchant exact = byAlias.get(key);
+        if (exact != null) return exact;
+        
+        Optional<PandoraEnchant> memo = fuzzyMemo.get(key);
+        if (memo != null) return memo.orElse(null);
+        
+        PandoraEnchant fuzzy = resolveFuzzy(name.toLowerCase().trim(), key);
+        fuzzyMemo.put(key, Optional.ofNullable(fuzzy));
+        return fuzzy;
+    }
+    
+    /**
+     * Number of exact aliases in the index
+     */
+    public int size() {
+        return byAlias.size();
+    }
+    
+    private PandoraEnchant resolveFuzzy(String input, String normalized) {
+        // Starts-with match (for cases with trailing text)
+        for (int i = 0; i < fuzzyOrder.length; i++) {
+            if (input.startsWith(fuzzyDisplay[i]) || input.startsWith(fuzzyNamespaced[i])) {
+                return fuzzyOrder[i];
+            }
+        }
+        
+        // Contains match in either direction
+        for (int i = 0; i < fuzzyOrder.length; i++) {
+            if (input.contains(fuzzyDisplay[i]) || input.contains(fuzzyNamespaced[i]) ||
+                fuzzyDisplay[i].contains(input) || fuzzyNamespaced[i].contains(normalized)) {
+                return fuzzyOrder[i];
+            }
+        }
+        
+        return null;
+    }
+    
+    private static void addAlias(Map<String, PandoraEnchant> aliases, String alias, PandoraEnchant enchant) {
+        PandoraEnchant existing = aliases.putIfAbsent(alias, enchant);
+        if (existing != null && existing != enchant) {
+            Logger.warn("Enchant alias '" + alias + "' is shared by " + existing.getNamespacedName()
+                    + " and " + enchant.getNamespacedName() + ", using " + existing.getNamespacedName());
+        }
+    }
+    
+    /**
+     * Normalizes a name: lowercase, decoration prefixes removed, spaces and dashes as underscores
+     */
+    static String normalize(String name) {
+        String result = name.trim();
+        for (String prefix : IGNORED_PREFIXES) {
+            if (result.startsWith(prefix)) {
+                result = result.substring(prefix.length()).trim();
+                break;
+            }
+        }
+        return result.toLowerCase().replace(' ', '_').replace('-', '_');
+    }
+}
@@ -0,0 +1,178 @@
+package com.pandora.enchants.engine;
+
+import java.util.*;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Immutable set of enchants with levels, indexed by dense enchant id
+ * Membership is a bitset and levels a byte array, so lookups and iteration never box;
+ * ids are only valid for the load they were created in (see PandoraEnchantManager.newEnchantSet)
+ */
+public final class EnchantSet {
+    
+    public static final EnchantSet EMPTY = new EnchantSet(new PandoraEnchant[0], new long[0], new byte[0], new int[0]);
+    
+    private final PandoraEnchant[] byId;
+    private final long[] bits;
+    private final byte[] levels;
+    private final int[] order;
+    
+    private EnchantSet(PandoraEnchant[] byId, long[] bits, byte[] levels, int[] order) {
+        this.byId = byId;
+        this.bits = bits;
+        this.levels = levels;
+        this.order = order;
+    }
+    
+    /**
+     * Number of enchants in the set
+     */
+    public int size() {
+        return order.length;
+    }
+    
+    public boolean isEmpty() {
+        return order.length == 0;
+    }
+    
+    /**
+     * Checks membership by id
+     */
+    public boolean contains(int id) {
+        return id >= 0 && (id >> 6) < bits.length && (bits[id >> 6] & (1L << id)) != 0;
+    }
+    
+    /**
+     * Checks membership (the enchant must come from the same load as the set)
+     */
+    public boolean contains(PandoraEnchant enchant) {
+        int id = enchant.getId();
+        return contains(id) && byId[id] == enchant;
+    }
+    
+    /**
+     * Gets the level of an enchant by id (0 if absent)
+     */
+    public int getLevel(int id) {
+        return contains(id) ? levels[id] & 0xFF : 0;
+    }
+    
+    /**
+     * Gets the level of an enchant (0 if absent), matching by name for instances from another load
+     */
+    public int getLevel(PandoraEnchant enchant) {
+        if (enchant == null) return 0;
+        if (contains(enchant)) return levels[enchant.getId()] & 0xFF;
+        return getLevel(enchant.getNamespacedName());
+    }
+    
+    /**
+     * Gets the level of an enchant by namespaced name (0 if absent)
+     */
+    public int getLevel(String namespacedName) {
+        for (int id : order) {
+            if (byId[id].getNamespacedName().equals(namespacedName)) {
+                return levels[id] & 0xFF;
+            }
+        }
+        return 0;
+    }
+    
+    /**
+     * Gets the first enchant in display order, or null if empty
+     */
+    public PandoraEnchant first() {
+        return order.length == 0 ? null : byId[order[0]];
+    }
+    
+    /**
+     * Gets the id of the enchant at a position in display order
+     */
+    public int getIdAt(int index) {
+        return order[index];
+    }
+    
+    public PandoraEnchant getEnchantAt(int index) {
+        return byId[order[index]];
+    }
+    
+    public int getLevelAt(int index) {
+        return levels[order[index]] & 0xFF;
+    }
+    
+    /**
+     * Visits every enchant in display order without boxing the level
+     */
+    public void forEach(ObjIntConsumer<PandoraEnchant> action) {
+        for (int id : order) {
+            action.accept(byId[id], levels[id] & 0xFF);
+        }
+    }
+    
+    /**
+     * Copies the set into an ordered map (for cold paths like lore rendering)
+     */
+    public Map<PandoraEnchant, Integer> toMap() {
+        Map<PandoraEnchant, Integer> map = new LinkedHashMap<>(order.length * 2);
+        for (int id : order) {
+            map.put(byId[id], levels[id] & 0xFF);
+        }
+        return map;
+    }
+    
+    /**
+     * Lists the enchants in display order
+     */
+    public List<PandoraEnchant> toList() {
+        List<PandoraEnchant> list = new ArrayList<>(order.length);
+        for (int id : order) {
+            list.add(byId[id]);
+        }
+        return list;
+    }
+    
+    /**
+     * Mutable builder, created by PandoraEnchantManager for the current load
+     */
+    public static final class Builder {
+        private final PandoraEnchant[] byId;
+        private final long[] bits;
+        private final byte[] levels;
+        private int[] order = new int[4];
+        private int size;
+        
+        Builder(PandoraEnchant[] byId) {
+            this.byId = byId;
+            this.bits = new long[(byId.length + 63) >> 6];
+            this.levels = new byte[byId.length];
+        }
+        
+        /**
+         * Adds an enchant, or replaces its level if already present (position is kept)
+         */
+        public Builder put(PandoraEnchant enchant, int level) {
+            int id = enchant.getId();
+            if (id < 0 || id >= byId.length || byId[id] != enchant) return this;
+            
+            if ((bits[id >> 6] & (1L << id)) == 0) {
+                bits[id >> 6] |= 1L << id;
+                if (size == order.length) {
+                    order = Arrays.copyOf(order, size * 2);
+                }
+                order[size++] = id;
+            }
+            levels[id] = (byte) Math.max(0, Math.min(level, 255));
+            return this;
+        }
+        
+        public boolean contains(PandoraEnchant enchant) {
+            int id = enchant.getId();
+            return id >= 0 && id < byId.length && byId[id] == enchant && (bits[id >> 6] & (1L << id)) != 0;
+        }
+        
+        public EnchantSet build() {
+            if (size == 0) return EMPTY;
+            return new EnchantSet(byId, bits.clone(), levels.clone(), Arrays.copyOf(order, size));
+        }
+    }
+}
@@ -20,6 +20,7 @@ public class PandoraEnchant extends PandoraEnchantRecord {
     
     private Enchantment bukkitEnchantment;
     private boolean newlyRegistered = false;
+    private int id = -1;
     
     public PandoraEnchant(String name, PandoraEnchantDefinition definition) {
         super(formatName(name), definition);
@@ -113,6 +114,17 @@ public class PandoraEnchant extends PandoraEnchantRecord {
         return Enchantment.getByKey(key);
     }
     
+    /**
+     * Gets the dense id assigned at load (index into per-enchant arrays), -1 if not loaded
+     */
+    public int getId() {
+        return id;
+    }
+    
+    void setId(int id) {
+        this.id = id;
+    }
+    
     /**
      * Checks if enchantment is newly registered
      */
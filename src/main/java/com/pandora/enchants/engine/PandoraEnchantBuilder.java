@@ -31,7 +31,7 @@ public class PandoraEnchantBuilder {
         }
         
         if (!config.getBoolean("enabled", true)) {
-            Logger.debug("Enchantment '" + namespacedName + "' is disabled");
+            Logger.debug(() -> "Enchantment '" + namespacedName + "' is disabled");
             return null;
         }
         
@@ -99,6 +99,19 @@ public class PandoraEnchantBuilder {
         double destroyChance = defSection.getDouble("destroy_item_chance", 0.0);
         double removeChance = defSection.getDouble("remove_enchantment_chance", 0.0);
         
+        // Parse cooldown (one value, or one per level)
+        int[] cooldownTicks;
+        if (defSection.isList("cooldown_ticks")) {
+            List<Integer> values = defSection.getIntegerList("cooldown_ticks");
+            cooldownTicks = new int[values.size()];
+            for (int i = 0; i < cooldownTicks.length; i++) {
+                cooldownTicks[i] = Math.max(0, values.get(i));
+            }
+        } else {
+            int ticks = defSection.getInt("cooldown_ticks", 0);
+            cooldownTicks = ticks > 0 ? new int[]{ticks} : new int[0];
+        }
+        
         return new PandoraEnchantDefinition(
                 supportedItems,
                 primaryItems,
@@ -111,7 +124,8 @@ public class PandoraEnchantBuilder {
                 conflicts,
                 tags,
                 destroyChance,
-                removeChance
+                removeChance,
+                cooldownTicks
         );
     }
 }
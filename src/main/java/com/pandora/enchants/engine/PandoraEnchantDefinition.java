@@ -18,7 +18,8 @@ public record PandoraEnchantDefinition(
         Set<String> conflictingEnchantments,
         Map<String, Boolean> tags,
         double destroyItemChance,
-        double removeEnchantmentChance
+        double removeEnchantmentChance,
+        int[] cooldownTicks
 ) {
     public record EnchantCost(int base, int perLevelAboveFirst) {
     }
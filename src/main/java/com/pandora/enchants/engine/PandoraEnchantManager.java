@@ -6,13 +6,17 @@ import com.pandora.enchants.util.Logger;
 import org.bukkit.configuration.ConfigurationSection;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Manages all Pandora enchantments
  */
 public class PandoraEnchantManager {
     
-    private final Map<String, PandoraEnchant> enchantments = new HashMap<>();
+    // Both are replaced wholesale on load so readers never see a half-built state
+    private volatile Map<String, PandoraEnchant> enchantments = Collections.emptyMap();
+    private volatile EnchantLookupIndex lookupIndex = EnchantLookupIndex.EMPTY;
+    private volatile PandoraEnchant[] byId = new PandoraEnchant[0];
     
     /**
      * Loads all enchantments from configuration
@@ -28,6 +32,9 @@ public class PandoraEnchantManager {
         
         plugin.getEnchantmentManager().unfreezeRegistry();
         
+        Map<String, PandoraEnchant> loaded = new LinkedHashMap<>();
+        int nextId = 0;
+        
         // Load enchantments from config
         ConfigurationSection enchantsSection = FileManager.getConfig("enchantments.yml")
                 .getConfigurationSection("");
@@ -39,7 +46,9 @@ public class PandoraEnchantManager {
                     PandoraEnchant enchant = builder.build();
                     
                     if (enchant != null) {
-                        enchantments.put(enchant.getNamespacedName(), enchant);
+                        // Dense id, used to index the effect dispatch table
+                        enchant.setId(nextId++);
+                        loaded.put(enchant.getNamespacedName(), enchant);
                         
                         // Add exclusives if newly registered
                         if (enchant.isNewlyRegistered()) {
@@ -57,13 +66,34 @@ public class PandoraEnchantManager {
         }
         
         // Add tags for all enchantments
-        for (PandoraEnchant enchant : enchantments.values()) {
+        for (PandoraEnchant enchant : loaded.values()) {
             plugin.getEnchantmentManager().addTagsOnReload(enchant);
         }
         
         plugin.getEnchantmentManager().freezeRegistry();
         
-        Logger.info("Loaded " + enchantments.size() + " enchantment(s)!");
+        // Build the lookup index before publishing so both swap together
+        EnchantLookupIndex index = new EnchantLookupIndex(loaded.values());
+        PandoraEnchant[] ids = new PandoraEnchant[nextId];
+        for (PandoraEnchant enchant : loaded.values()) {
+            ids[enchant.getId()] = enchant;
+        }
+        enchantments = Collections.unmodifiableMap(loaded);
+        lookupIndex = index;
+        byId = ids;
+        com.pandora.enchants.util.EnchantCache.clear();
+        
+        // Effects are bound by enchant id, which changes with every load
+        if (plugin.getEffectRegistry() != null) {
+            plugin.getEffectRegistry().bind(loaded.values());
+        }
+        
+        // Equipment profiles hold enchant instances from the previous load
+        if (plugin.getProfileManager() != null) {
+            plugin.getProfileManager().rebuildAll();
+        }
+        
+        Logger.info("Loaded " + loaded.size() + " enchantment(s)!");
     }
     
     /**
@@ -74,6 +104,35 @@ public class PandoraEnchantManager {
         return enchantments.get(namespaced);
     }
     
+    /**
+     * Gets an enchantment by its exact namespaced name (no normalization)
+     */
+    public PandoraEnchant getByNamespacedName(String namespacedName) {
+        return enchantments.get(namespacedName);
+    }
+    
+    /**
+     * Gets an enchantment by its dense id (null if out of range)
+     */
+    public PandoraEnchant getById(int id) {
+        PandoraEnchant[] table = byId;
+        return id >= 0 && id < table.length ? table[id] : null;
+    }
+    
+    /**
+     * Creates an EnchantSet builder for the currently loaded enchantments
+     */
+    public EnchantSet.Builder newEnchantSet() {
+        return new EnchantSet.Builder(byId);
+    }
+    
+    /**
+     * Resolves an enchant from lore text (colors and level numeral already stripped)
+     */
+    public PandoraEnchant resolveLoreName(String name) {
+        return lookupIndex.resolve(name);
+    }
+    
     /**
      * Gets all enchantments
      */
@@ -82,12 +141,16 @@ public class PandoraEnchantManager {
     }
     
     /**
-     * Reloads all enchantments
+     * Re-reads enchantments.yml off the server thread, then loads the enchantments and runs done
+     * done gets false when the file could not be read; the loaded enchantments are kept then
      */
-    public void reload() {
-        enchantments.clear();
-        FileManager.reloadConfig("enchantments.yml");
-        loadEnchantments();
+    public void reload(Consumer<Boolean> done) {
+        FileManager.reloadConfig("enchantments.yml", loaded -> {
+            if (loaded) {
+                loadEnchantments();
+            }
+            done.accept(loaded);
+        });
     }
 }
 
@@ -77,6 +77,15 @@ public class PandoraEnchantRecord {
         return definition.removeEnchantmentChance();
     }
     
+    /**
+     * Gets the proc cooldown in ticks for a level (0 if none); the last configured value covers higher levels
+     */
+    public int getCooldownTicks(int level) {
+        int[] ticks = definition.cooldownTicks();
+        if (ticks.length == 0 || level < 1) return 0;
+        return ticks[Math.min(level, ticks.length) - 1];
+    }
+    
     private String toNamespacedName(String name) {
         return name.toLowerCase().replaceAll(" ", "_");
     }
@@ -0,0 +1,119 @@
+package com.pandora.enchants.engine;
+
+import com.pandora.enchants.util.EnchantmentStorage;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.util.*;
+
+/**
+ * Immutable snapshot of the custom enchants a player has equipped
+ * Built by PlayerProfileManager when equipment changes, read by effect listeners
+ */
+public final class PlayerEnchantProfile {
+    
+    public static final EquipmentSlot[] SLOTS = {
+            EquipmentSlot.HEAD, EquipmentSlot.CHEST, EquipmentSlot.LEGS, EquipmentSlot.FEET,
+            EquipmentSlot.HAND, EquipmentSlot.OFF_HAND
+    };
+    
+    public static final PlayerEnchantProfile EMPTY = new PlayerEnchantProfile(
+            new EnumMap<>(EquipmentSlot.class), new EnchantSet[0], 0);
+    
+    private final EnumMap<EquipmentSlot, EnchantSet> slots;
+    private final EnchantSet[] armor;
+    private final int checksum;
+    
+    private PlayerEnchantProfile(EnumMap<EquipmentSlot, EnchantSet> slots, EnchantSet[] armor, int checksum) {
+        this.slots = slots;
+        this.armor = armor;
+        this.checksum = checksum;
+    }
+    
+    /**
+     * Decodes every equipment slot of an inventory
+     */
+    public static PlayerEnchantProfile build(PlayerInventory inventory) {
+        EnumMap<EquipmentSlot, EnchantSet> slots = new EnumMap<>(EquipmentSlot.class);
+        List<EnchantSet> armor = new ArrayList<>(4);
+        int checksum = 1;
+        
+        for (EquipmentSlot slot : SLOTS) {
+            ItemStack item = inventory.getItem(slot);
+            checksum = 31 * checksum + hash(item);
+            
+            EnchantSet enchants = EnchantmentStorage.getEnchants(item);
+            if (enchants.isEmpty()) continue;
+            slots.put(slot, enchants);
+            
+            if (isArmor(slot)) {
+                // Kept per piece: the same enchant on several pieces runs once for each piece
+                armor.add(enchants);
+            }
+        }
+        
+        return new PlayerEnchantProfile(slots, armor.toArray(new EnchantSet[0]), checksum);
+    }
+    
+    /**
+     * Cheap fingerprint of the equipment slots, used to catch changes no event reported
+     */
+    public static int checksum(PlayerInventory inventory) {
+        int checksum = 1;
+        for (EquipmentSlot slot : SLOTS) {
+            checksum = 31 * checksum + hash(inventory.getItem(slot));
+        }
+        return checksum;
+    }
+    
+    /**
+     * Gets the enchants on a single slot
+     */
+    public EnchantSet getEnchants(EquipmentSlot slot) {
+        EnchantSet enchants = slots.get(slot);
+        return enchants != null ? enchants : EnchantSet.EMPTY;
+    }
+    
+    /**
+     * Gets the level of an enchant on a single slot (0 if absent)
+     */
+    public int getLevel(EquipmentSlot slot, String namespacedName) {
+        return getEnchants(slot).getLevel(namespacedName);
+    }
+    
+    /**
+     * Gets the enchants of each enchanted armor piece, head to feet (shared, do not modify)
+     */
+    public EnchantSet[] getArmorPieces() {
+        return armor;
+    }
+    
+    /**
+     * Gets the highest level of an enchant across armor (0 if absent)
+     */
+    public int getArmorLevel(String namespacedName) {
+        int level = 0;
+        for (EnchantSet piece : armor) {
+            level = Math.max(level, piece.getLevel(namespacedName));
+        }
+        return level;
+    }
+    
+    public int getChecksum() {
+        return checksum;
+    }
+    
+    public boolean isEmpty() {
+        return slots.isEmpty();
+    }
+    
+    private static boolean isArmor(EquipmentSlot slot) {
+        return slot == EquipmentSlot.HEAD || slot == EquipmentSlot.CHEST
+                || slot == EquipmentSlot.LEGS || slot == EquipmentSlot.FEET;
+    }
+    
+    private static int hash(ItemStack item) {
+        return item == null || item.getType().isAir() ? 0 : item.hashCode();
+    }
+}
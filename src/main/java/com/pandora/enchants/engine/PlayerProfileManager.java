@@ -0,0 +1,225 @@
+package com.pandora.enchants.engine;
+
+import com.pandora.enchants.PandoraEnchants;
+import com.pandora.enchants.util.ConfigManager;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.block.BlockDispenseArmorEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.*;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * Keeps a PlayerEnchantProfile for every online player
+ * Profiles are rebuilt one tick after an equipment-change signal (coalescing bursts of clicks),
+ * with a periodic checksum pass as a fallback for changes no event reports
+ */
+public class PlayerProfileManager implements Listener {
+    
+    private final Map<UUID, PlayerEnchantProfile> profiles = new HashMap<>();
+    private final Set<UUID> dirty = new LinkedHashSet<>();
+    private BukkitTask rebuildTask;
+    private BukkitTask checksumTask;
+    
+    /**
+     * Builds profiles for players already online and starts the checksum task
+     */
+    public void start() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            rebuild(player);
+        }
+        
+        long interval = Math.max(1, ConfigManager.getProfileChecksumInterval());
+        checksumTask = Bukkit.getScheduler().runTaskTimer(PandoraEnchants.getInstance(),
+                this::verifyChecksums, interval, interval);
+    }
+    
+    public void shutdown() {
+        if (checksumTask != null) {
+            checksumTask.cancel();
+            checksumTask = null;
+        }
+        if (rebuildTask != null) {
+            rebuildTask.cancel();
+            rebuildTask = null;
+        }
+        profiles.clear();
+        dirty.clear();
+    }
+    
+    /**
+     * Gets the equipment profile of a player (built on demand if missing)
+     */
+    public PlayerEnchantProfile getProfile(Player player) {
+        PlayerEnchantProfile profile = profiles.get(player.getUniqueId());
+        if (profile == null) {
+            profile = rebuild(player);
+        }
+        return profile;
+    }
+    
+    /**
+     * Schedules a rebuild of a player's profile on the next tick
+     */
+    public void markDirty(Player player) {
+        if (dirty.add(player.getUniqueId()) && rebuildTask == null) {
+            rebuildTask = Bukkit.getScheduler().runTask(PandoraEnchants.getInstance(), this::rebuildDirty);
+        }
+    }
+    
+    /**
+     * Rebuilds all profiles (used after enchant reload, since enchant instances are replaced)
+     */
+    public void rebuildAll() {
+        dirty.clear();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            rebuild(player);
+        }
+    }
+    
+    /**
+     * Number of cached profiles
+     */
+    public int size() {
+        return profiles.size();
+    }
+    
+    private PlayerEnchantProfile rebuild(Player player) {
+        PlayerEnchantProfile profile = PlayerEnchantProfile.build(player.getInventory());
+        profiles.put(player.getUniqueId(), profile);
+        return profile;
+    }
+    
+    private void rebuildDirty() {
+        rebuildTask = null;
+        for (UUID uuid : dirty) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null && player.isOnline()) {
+                rebuild(player);
+            }
+        }
+        dirty.clear();
+    }
+    
+    private void verifyChecksums() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            PlayerEnchantProfile profile = profiles.get(player.getUniqueId());
+            if (profile == null || profile.getChecksum() != PlayerEnchantProfile.checksum(player.getInventory())) {
+                rebuild(player);
+            }
+        }
+    }
+    
+    private void markDirty(HumanEntity entity) {
+        if (entity instanceof Player) {
+            markDirty((Player) entity);
+        }
+    }
+    
+    // ============================================
+    // EQUIPMENT CHANGE SIGNALS
+    // ============================================
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        rebuild(event.getPlayer());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        markDirty(event.getPlayer());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+        profiles.remove(uuid);
+        dirty.remove(uuid);
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (!event.isCancelled()) {
+            markDirty(event.getWhoClicked());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        if (!event.isCancelled()) {
+            markDirty(event.getWhoClicked());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(InventoryCloseEvent event) {
+        markDirty(event.getPlayer());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemHeld(PlayerItemHeldEvent event) {
+        if (!event.isCancelled()) {
+            markDirty(event.getPlayer());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onSwapHands(PlayerSwapHandItemsEvent event) {
+        if (!event.isCancelled()) {
+            markDirty(event.getPlayer());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemBreak(PlayerItemBreakEvent event) {
+        markDirty(event.getPlayer());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDrop(PlayerDropItemEvent event) {
+        if (!event.isCancelled()) {
+            markDirty(event.getPlayer());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInteract(PlayerInteractEvent event) {
+        // Right-click equips armor straight from the hand (right-clicks on air arrive cancelled)
+        if (event.useItemInHand() == Event.Result.DENY) return;
+        if (event.getAction() != Action.RIGHT_CLICK_AIR && event.getAction() != Action.RIGHT_CLICK_BLOCK) return;
+        
+        ItemStack item = event.getItem();
+        if (item == null) return;
+        EquipmentSlot slot = item.getType().getEquipmentSlot();
+        if (slot != EquipmentSlot.HAND && slot != EquipmentSlot.OFF_HAND) {
+            markDirty(event.getPlayer());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDispenseArmor(BlockDispenseArmorEvent event) {
+        if (!event.isCancelled() && event.getTargetEntity() instanceof Player) {
+            markDirty((Player) event.getTargetEntity());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPickup(EntityPickupItemEvent event) {
+        if (!event.isCancelled() && event.getEntity() instanceof Player) {
+            markDirty((Player) event.getEntity());
+        }
+    }
+}
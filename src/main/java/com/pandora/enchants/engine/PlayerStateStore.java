@@ -0,0 +1,106 @@
+package com.pandora.enchants.engine;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Per-player transient state (open GUIs, double jump state...) in typed slots
+ * A player's whole record is dropped on quit.
+ * Reads are safe from async threads
+ */
+public class PlayerStateStore implements Listener {
+    
+    private static final int MAX_SLOTS = 32;
+    
+    private final Map<UUID, State> states = new ConcurrentHashMap<>();
+    private final AtomicInteger objectSlots = new AtomicInteger();
+    
+    /**
+     * An object per player (null when unset)
+     */
+    public static final class ObjectSlot<T> {
+        private final String name;
+        private final int index;
+        
+        private ObjectSlot(String name, int index) {
+            this.name = name;
+            this.index = index;
+        }
+        
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+    
+    /**
+     * Registers an object slot; values are kept until removed or quit
+     */
+    public <T> ObjectSlot<T> objectSlot(String name) {
+        int index = objectSlots.getAndIncrement();
+        if (index >= MAX_SLOTS) {
+            throw new IllegalStateException("Too many player state slots, cannot register " + name);
+        }
+        return new ObjectSlot<>(name, index);
+    }
+    
+    public void shutdown() {
+        states.clear();
+    }
+    
+    /**
+     * Number of players with a state record
+     */
+    public int size() {
+        return states.size();
+    }
+    
+    @SuppressWarnings("unchecked")
+    public <T> T get(UUID uuid, ObjectSlot<T> slot) {
+        State state = states.get(uuid);
+        if (state == null) return null;
+        return (T) state.objects.get(slot.index);
+    }
+    
+    public <T> void put(UUID uuid, ObjectSlot<T> slot, T value) {
+        if (value == null) {
+            remove(uuid, slot);
+            return;
+        }
+        states.computeIfAbsent(uuid, k -> new State()).objects.set(slot.index, value);
+    }
+    
+    /**
+     * Clears an object slot, returning the previous value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T remove(UUID uuid, ObjectSlot<T> slot) {
+        State state = states.get(uuid);
+        if (state == null) return null;
+        return (T) state.objects.getAndSet(slot.index, null);
+    }
+    
+    /**
+     * Drops every slot of a player
+     */
+    public void forget(UUID uuid) {
+        states.remove(uuid);
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        forget(event.getPlayer().getUniqueId());
+    }
+    
+    private static final class State {
+        private final AtomicReferenceArray<Object> objects = new AtomicReferenceArray<>(MAX_SLOTS);
+    }
+}
@@ -1,5 +1,7 @@
 package com.pandora.enchants.gui;
 
+import com.pandora.enchants.PandoraEnchants;
+import com.pandora.enchants.engine.PlayerStateStore;
 import com.pandora.enchants.util.ColorUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -10,8 +12,6 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 import java.util.function.Consumer;
 
@@ -25,7 +25,8 @@ public abstract class GUI {
     protected int size;
     protected Player player;
     
-    protected static final Map<UUID, GUI> openGUIs = new HashMap<>();
+    private static final PlayerStateStore.ObjectSlot<GUI> OPEN_GUI =
+            PandoraEnchants.getInstance().getStateStore().objectSlot("open_gui");
     
     public GUI(Player player, String title, int size) {
         this.player = player;
@@ -40,7 +41,7 @@ public abstract class GUI {
     public void open() {
         buildInventory();
         player.openInventory(inventory);
-        openGUIs.put(player.getUniqueId(), this);
+        stateStore().put(player.getUniqueId(), OPEN_GUI, this);
     }
     
     /**
@@ -57,7 +58,7 @@ public abstract class GUI {
      * Handles inventory close
      */
     protected void onInventoryClose(InventoryCloseEvent event) {
-        openGUIs.remove(player.getUniqueId());
+        stateStore().remove(player.getUniqueId(), OPEN_GUI);
     }
     
     /**
@@ -112,17 +113,21 @@ public abstract class GUI {
      * Gets the open GUI for a player
      */
     public static GUI getOpenGUI(UUID uuid) {
-        return openGUIs.get(uuid);
+        return stateStore().get(uuid, OPEN_GUI);
     }
     
     /**
      * Closes the GUI for a player
      */
     public static void closeGUI(UUID uuid) {
-        GUI gui = openGUIs.remove(uuid);
+        GUI gui = stateStore().remove(uuid, OPEN_GUI);
         if (gui != null && gui.player.isOnline()) {
             gui.player.closeInventory();
         }
     }
+    
+    private static PlayerStateStore stateStore() {
+        return PandoraEnchants.getInstance().getStateStore();
+    }
 }
 
@@ -1,9 +1,11 @@
 package com.pandora.enchants.listeners;
 
-import com.pandora.enchants.engine.PandoraEnchant;
-import com.pandora.enchants.util.EnchantmentStorage;
 import com.pandora.enchants.util.Logger;
 import com.pandora.enchants.PandoraEnchants;
+import com.pandora.enchants.effects.EffectEmitter;
+import com.pandora.enchants.engine.PandoraEnchant;
+import com.pandora.enchants.engine.PlayerStateStore;
+import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.Particle;
@@ -13,163 +15,110 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
-import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerToggleFlightEvent;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayDeque;
 import java.util.UUID;
 
 /**
  * Handles double jump enchantment for boots
- * Based on proven double jump mechanics
+ * Each wearer is GROUNDED, AIRBORNE_ARMED or USED; the state only changes when the player
+ * lands or leaves the ground, and flight is enabled for armed players by one shared queue
+ * a couple of ticks after take-off
  */
 public class DoubleJumpListener implements Listener {
     
-    private final Map<UUID, Boolean> hasDoubleJumped = new HashMap<>();
-    private final Map<UUID, Boolean> wasOnGround = new HashMap<>();
-    private final Map<UUID, Long> lastJumpTime = new HashMap<>();
+    private enum JumpState {
+        GROUNDED,
+        AIRBORNE_ARMED,
+        USED
+    }
     
-    @EventHandler(priority = EventPriority.HIGH)
+    private static final int ARM_DELAY = 2;
+    
+    private final PlayerStateStore stateStore;
+    private final EffectEmitter emitter;
+    private final PlayerStateStore.ObjectSlot<JumpState> jumpState;
+    private final ArrayDeque<Arming> arming = new ArrayDeque<>();
+    private long tick;
+    private BukkitTask armingTask;
+    
+    public DoubleJumpListener() {
+        this.stateStore = PandoraEnchants.getInstance().getStateStore();
+        this.emitter = PandoraEnchants.getInstance().getEffectEmitter();
+        this.jumpState = stateStore.objectSlot("double_jump");
+    }
+    
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onPlayerMove(PlayerMoveEvent event) {
+        // Looking around never changes the ground state
+        if (event.getTo() == null || event.getFrom().getY() == event.getTo().getY()) return;
+        
         Player player = event.getPlayer();
-        UUID uuid = player.getUniqueId();
+        if (isExempt(player)) return;
         
-        // Skip creative/spectator
-        if (player.getGameMode() == GameMode.CREATIVE || 
-            player.getGameMode() == GameMode.SPECTATOR) {
-            return;
-        }
+        UUID uuid = player.getUniqueId();
+        JumpState state = stateStore.get(uuid, jumpState);
         
-        // Check if player has double jump enchant
-        ItemStack boots = player.getInventory().getBoots();
-        if (boots == null || boots.getType().isAir()) {
-            // Clean up if player no longer has boots
-            if (hasDoubleJumped.containsKey(uuid)) {
-                hasDoubleJumped.remove(uuid);
-                wasOnGround.remove(uuid);
-                if (player.getAllowFlight() && player.getGameMode() != GameMode.CREATIVE) {
+        if (getLevel(player) < 1) {
+            // Clean up if player no longer has double jump
+            if (state != null) {
+                stateStore.remove(uuid, jumpState);
+                if (player.getAllowFlight()) {
                     player.setAllowFlight(false);
                 }
             }
             return;
         }
         
-        // Check for double_jump enchant specifically
-        PandoraEnchant enchant = EnchantmentStorage.getEnchant(boots, "double_jump");
-        
-        if (enchant == null) {
-            // Clean up if player no longer has double jump
-            if (hasDoubleJumped.containsKey(uuid)) {
-                hasDoubleJumped.remove(uuid);
-                wasOnGround.remove(uuid);
-                if (player.getAllowFlight() && player.getGameMode() != GameMode.CREATIVE) {
+        if (player.isOnGround()) {
+            if (state != JumpState.GROUNDED) {
+                // Landed: reset double jump and disable flight
+                stateStore.put(uuid, jumpState, JumpState.GROUNDED);
+                if (player.getAllowFlight() && !player.isFlying()) {
                     player.setAllowFlight(false);
                 }
             }
             return;
         }
         
-        boolean isOnGround = player.isOnGround();
-        boolean wasOnGroundBefore = wasOnGround.getOrDefault(uuid, true);
-        
-        // Track ground state
-        wasOnGround.put(uuid, isOnGround);
-        
-        // Reset double jump when landing on ground
-        if (isOnGround) {
-            if (hasDoubleJumped.getOrDefault(uuid, false)) {
-                hasDoubleJumped.put(uuid, false);
-            }
-            // Disable flight when on ground
-            if (player.getAllowFlight() && player.getGameMode() != GameMode.CREATIVE && !player.isFlying()) {
-                player.setAllowFlight(false);
-            }
-            return;
-        }
-        
-        // Player is in air - enable flight for double jump if they haven't used it yet
-        if (!isOnGround && !hasDoubleJumped.getOrDefault(uuid, false)) {
-            // Enable flight after a small delay to ensure they're actually in air
-            // Only schedule if not already enabled to avoid spam
-            if (!player.getAllowFlight()) {
-                new BukkitRunnable() {
-                    @Override
-                    public void run() {
-                        if (player.isOnline() && !player.isOnGround() && 
-                            !hasDoubleJumped.getOrDefault(uuid, false)) {
-                            if (player.getGameMode() != GameMode.CREATIVE && 
-                                player.getGameMode() != GameMode.SPECTATOR) {
-                                player.setAllowFlight(true);
-                            }
-                        }
-                    }
-                }.runTaskLater(PandoraEnchants.getInstance(), 2L);
-            }
+        if (state == null || state == JumpState.GROUNDED) {
+            // Took off: enable flight once they're actually in air
+            stateStore.put(uuid, jumpState, JumpState.AIRBORNE_ARMED);
+            queueArming(player);
         }
     }
     
     @EventHandler(priority = EventPriority.HIGH)
     public void onPlayerToggleFlight(PlayerToggleFlightEvent event) {
         Player player = event.getPlayer();
-        UUID uuid = player.getUniqueId();
-        
-        // Skip creative/spectator
-        if (player.getGameMode() == GameMode.CREATIVE || 
-            player.getGameMode() == GameMode.SPECTATOR) {
-            return;
-        }
-        
-        // Check if player has double jump enchant
-        ItemStack boots = player.getInventory().getBoots();
-        if (boots == null || boots.getType().isAir()) {
-            return;
-        }
-        
-        // Check for double_jump enchant specifically
-        PandoraEnchant enchant = EnchantmentStorage.getEnchant(boots, "double_jump");
-        if (enchant == null) {
-            return;
-        }
+        if (isExempt(player)) return;
         
-        // Check if already used double jump
-        if (hasDoubleJumped.getOrDefault(uuid, false)) {
-            event.setCancelled(true);
-            player.setFlying(false);
-            player.setAllowFlight(false);
+        int level = getLevel(player);
+        if (level < 1) {
             return;
         }
         
-        // Check if player is actually in air
-        if (player.isOnGround()) {
+        // Only once per airtime, and only while actually in air
+        UUID uuid = player.getUniqueId();
+        if (stateStore.get(uuid, jumpState) != JumpState.AIRBORNE_ARMED || player.isOnGround()) {
             event.setCancelled(true);
             player.setFlying(false);
             player.setAllowFlight(false);
             return;
         }
         
-        // Get enchant level
-        int level = EnchantmentStorage.getEnchantLevel(boots, enchant);
-        
-        if (level < 1) {
+        // Prevent spam jumping (double_jump cooldown_ticks)
+        PandoraEnchants plugin = PandoraEnchants.getInstance();
+        PandoraEnchant enchant = plugin.getEnchantManager().getByNamespacedName("double_jump");
+        if (enchant != null && !plugin.getCooldownService().tryAcquire(player, enchant, level)) {
             event.setCancelled(true);
             return;
         }
         
-        // Prevent spam jumping
-        long now = System.currentTimeMillis();
-        if (lastJumpTime.containsKey(uuid)) {
-            long timeSinceLastJump = now - lastJumpTime.get(uuid);
-            if (timeSinceLastJump < 100) { // 100ms cooldown
-                event.setCancelled(true);
-                return;
-            }
-        }
-        lastJumpTime.put(uuid, now);
-        
         // Cancel the flight toggle
         event.setCancelled(true);
         player.setFlying(false);
@@ -183,12 +132,12 @@ public class DoubleJumpListener implements Listener {
         player.setVelocity(velocity);
         
         // Mark as used
-        hasDoubleJumped.put(uuid, true);
+        stateStore.put(uuid, jumpState, JumpState.USED);
         
         // Play subtle sounds (reduced significantly)
         try {
-            player.playSound(player.getLocation(), Sound.ENTITY_ENDER_DRAGON_FLAP, 0.5f, 1.14f);
-            player.playSound(player.getLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, 0.3f, 1.43f);
+            emitter.sound(player, player.getLocation(), Sound.ENTITY_ENDER_DRAGON_FLAP, 0.5f, 1.14f);
+            emitter.sound(player, player.getLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, 0.3f, 1.43f);
         } catch (Exception e) {
             Logger.warn("Failed to play double jump sound: " + e.getMessage());
         }
@@ -197,19 +146,60 @@ public class DoubleJumpListener implements Listener {
         try {
             Location loc = player.getLocation();
             // Cloud burst
-            player.spawnParticle(Particle.CLOUD, loc, 8, 0.3, 0.15, 0.3, 0.05);
+            emitter.particle(player, Particle.CLOUD, loc, 8, 0.3, 0.15, 0.3, 0.05);
             // Portal effect
-            player.spawnParticle(Particle.PORTAL, loc, 5, 0.25, 0.05, 0.25, 0.08);
+            emitter.particle(player, Particle.PORTAL, loc, 5, 0.25, 0.05, 0.25, 0.08);
         } catch (Exception e) {
             Logger.warn("Failed to spawn double jump particles: " + e.getMessage());
         }
     }
     
-    @EventHandler
-    public void onPlayerQuit(PlayerQuitEvent event) {
-        UUID uuid = event.getPlayer().getUniqueId();
-        hasDoubleJumped.remove(uuid);
-        wasOnGround.remove(uuid);
-        lastJumpTime.remove(uuid);
+    private void queueArming(Player player) {
+        arming.add(new Arming(player, tick + ARM_DELAY));
+        if (armingTask == null) {
+            armingTask = Bukkit.getScheduler().runTaskTimer(PandoraEnchants.getInstance(), this::tickArming, 1L, 1L);
+        }
+    }
+    
+    /**
+     * Enables flight for players still armed and airborne when their delay is up
+     * Every entry has the same delay, so the queue is ordered by due tick
+     */
+    private void tickArming() {
+        tick++;
+        while (!arming.isEmpty() && arming.peek().dueTick <= tick) {
+            Player player = arming.poll().player;
+            if (!player.isOnline() || player.isOnGround() || isExempt(player)) continue;
+            
+            if (stateStore.get(player.getUniqueId(), jumpState) == JumpState.AIRBORNE_ARMED && !player.getAllowFlight()) {
+                player.setAllowFlight(true);
+            }
+        }
+        
+        if (arming.isEmpty()) {
+            armingTask.cancel();
+            armingTask = null;
+        }
+    }
+    
+    private static boolean isExempt(Player player) {
+        // Skip creative/spectator
+        return player.getGameMode() == GameMode.CREATIVE || player.getGameMode() == GameMode.SPECTATOR;
+    }
+    
+    private static int getLevel(Player player) {
+        // Equipment snapshot, no item decoding
+        return PandoraEnchants.getInstance().getProfileManager().getProfile(player)
+                .getLevel(EquipmentSlot.FEET, "double_jump");
+    }
+    
+    private static final class Arming {
+        private final Player player;
+        private final long dueTick;
+        
+        private Arming(Player player, long dueTick) {
+            this.player = player;
+            this.dueTick = dueTick;
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.pandora.enchants.listeners;
 
+import com.pandora.enchants.PandoraEnchants;
 import com.pandora.enchants.engine.PandoraEnchant;
 import com.pandora.enchants.util.ColorUtil;
 import com.pandora.enchants.util.EnchantmentStorage;
@@ -95,6 +96,7 @@ public class EnchantBookListener implements Listener {
         
         // Apply enchant to item
         EnchantmentStorage.applyEnchant(targetItem, enchant, level);
+        PandoraEnchants.getInstance().getProfileManager().markDirty(player);
         
         // Messages and sound
         player.sendMessage(ColorUtil.format(
@@ -0,0 +1,73 @@
+package com.pandora.enchants.listeners;
+
+import com.pandora.enchants.util.ConfigManager;
+import com.pandora.enchants.util.EnchantMigration;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Lazily converts legacy lore-encoded items to the enchant record on first touch
+ */
+public class MigrationListener implements Listener {
+    
+    /**
+     * Lazy migration is on and legacy items may still exist (legacy_lore_fallback)
+     */
+    private static boolean isActive() {
+        return ConfigManager.isLazyMigrationEnabled() && ConfigManager.isLegacyLoreFallbackEnabled();
+    }
+    
+    @EventHandler(priority = EventPriority.LOW)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        if (!isActive()) return;
+        
+        EnchantMigration.migratePlayer(event.getPlayer());
+    }
+    
+    @EventHandler(priority = EventPriority.LOW)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        if (event.isCancelled() || !isActive()) return;
+        
+        EnchantMigration.migrateInventory(event.getInventory());
+    }
+    
+    @EventHandler(priority = EventPriority.LOW)
+    public void onItemHeld(PlayerItemHeldEvent event) {
+        if (event.isCancelled() || !isActive()) return;
+        
+        Player player = event.getPlayer();
+        ItemStack item = player.getInventory().getItem(event.getNewSlot());
+        if (item != null && EnchantMigration.migrateItem(item)) {
+            player.getInventory().setItem(event.getNewSlot(), item);
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.LOW)
+    public void onItemPickup(EntityPickupItemEvent event) {
+        if (event.isCancelled() || !isActive()) return;
+        if (!(event.getEntity() instanceof Player)) return;
+        
+        Item item = event.getItem();
+        ItemStack stack = item.getItemStack();
+        if (EnchantMigration.migrateItem(stack)) {
+            item.setItemStack(stack);
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        // New chunks cannot contain legacy items
+        if (event.isNewChunk() || !isActive()) return;
+        
+        EnchantMigration.queueChunk(event.getChunk());
+    }
+}
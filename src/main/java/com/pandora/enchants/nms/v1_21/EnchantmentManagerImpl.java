@@ -33,17 +33,17 @@ public class EnchantmentManagerImpl implements EnchantmentManager {
     public Enchantment registerEnchantment(PandoraEnchant enchant) {
         // For lore-based system, we don't need actual Bukkit Enchantment registration
         // Enchants are stored in lore and work via our storage system
-        Logger.debug("Enchantment registered (lore-based): " + enchant.getNamespacedName());
+        Logger.debug(() -> "Enchantment registered (lore-based): " + enchant.getNamespacedName());
         return null; // Return null - we use lore-based storage
     }
     
     @Override
     public void addExclusives(String enchantId, Set<String> exclusives) {
-        Logger.debug("Adding exclusives for " + enchantId + ": " + exclusives);
+        Logger.debug(() -> "Adding exclusives for " + enchantId + ": " + exclusives);
     }
     
     @Override
     public void addTagsOnReload(PandoraEnchant enchant) {
-        Logger.debug("Adding tags for " + enchant.getNamespacedName());
+        Logger.debug(() -> "Adding tags for " + enchant.getNamespacedName());
     }
 }
@@ -5,6 +5,7 @@ import org.bukkit.Material;
 import org.bukkit.configuration.file.FileConfiguration;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -19,6 +20,8 @@ public class ConfigManager {
     public static void load() {
         config = PandoraEnchants.getInstance().getConfig();
         validateConfig();
+        Logger.configure();
+        EnchantCache.configure();
     }
     
     /**
@@ -210,10 +213,163 @@ public class ConfigManager {
         return config.getInt("performance.cache_duration", 0);
     }
     
+    public static int getCacheSize() {
+        return config.getInt("performance.cache_size", 2048);
+    }
+    
+    public static int getProfileChecksumInterval() {
+        return config.getInt("performance.profile_checksum_interval", 20);
+    }
+    
+    /**
+     * Ticks between two passive effect checks of the same player (player_idle_trigger_check_frequency)
+     */
+    public static int getPassiveCheckPeriod() {
+        double seconds = config.getDouble("player_idle_trigger_check_frequency", 0.5);
+        return Math.max(1, (int) Math.round(seconds * 20));
+    }
+    
+    public static int getPassiveCadence(String enchant, int def) {
+        return config.getInt("passive_effects." + enchant, def);
+    }
+    
+    /**
+     * Microseconds per tick the multi-block break engine (vein_miner, lumberjack...) may use
+     */
+    public static long getMultiBlockTickBudget() {
+        return Math.max(50, config.getLong("performance.multi_block.tick_budget_us", 1500));
+    }
+    
+    public static int getMultiBlockMaxJobs() {
+        return config.getInt("performance.multi_block.max_jobs", 32);
+    }
+    
+    public static int getMultiBlockMaxJobsPerPlayer() {
+        return config.getInt("performance.multi_block.max_jobs_per_player", 2);
+    }
+    
+    /**
+     * Quality of enchant particles: full, reduced or off
+     */
+    public static String getEffectQuality() {
+        return config.getString("performance.effects.quality", "full");
+    }
+    
+    public static double getEffectViewDistance() {
+        return config.getDouble("performance.effects.view_distance", 32.0);
+    }
+    
+    public static int getEffectChunkBudget() {
+        return Math.max(1, config.getInt("performance.effects.chunk_budget", 24));
+    }
+    
+    public static int getEffectPlayerBudget() {
+        return Math.max(1, config.getInt("performance.effects.player_budget", 32));
+    }
+    
+    /**
+     * Maximum entities hit by one area effect (cleave...), closest first
+     */
+    public static int getAoeMaxTargets() {
+        return Math.max(1, config.getInt("performance.aoe.max_targets", 8));
+    }
+    
+    /**
+     * Distance within which enchant explosions merge into a pending one
+     */
+    public static double getExplosionMergeRadius() {
+        return Math.max(0.0, config.getDouble("performance.explosions.merge_radius", 4.0));
+    }
+    
+    public static int getExplosionMergeWindow() {
+        return Math.max(0, config.getInt("performance.explosions.merge_window_ticks", 2));
+    }
+    
+    public static int getExplosionsPerTick() {
+        return Math.max(1, config.getInt("performance.explosions.max_per_tick", 4));
+    }
+    
+    public static float getExplosionMaxPower() {
+        return (float) Math.max(1.0, config.getDouble("performance.explosions.max_power", 8.0));
+    }
+    
+    public static int getExplosionMaxQueued() {
+        return Math.max(1, config.getInt("performance.explosions.max_queued", 64));
+    }
+    
+    public static boolean isMetricsEnabled() {
+        return config.getBoolean("performance.metrics.enabled", true);
+    }
+    
+    public static int getMetricsSampleRate() {
+        return Math.max(1, config.getInt("performance.metrics.histogram_sample_rate", 8));
+    }
+    
+    /**
+     * Minutes between metrics file dumps (0 = off)
+     */
+    public static int getMetricsDumpInterval() {
+        return Math.max(0, config.getInt("performance.metrics.dump_interval_minutes", 10));
+    }
+    
+    /**
+     * Milliseconds config file saves are held so further edits land in the same write
+     */
+    public static long getSaveDebounceMillis() {
+        return Math.max(0L, config.getLong("performance.save_debounce_ms", 1000L));
+    }
+    
+    public static boolean isLoadGovernorEnabled() {
+        return config.getBoolean("performance.load_governor.enabled", true);
+    }
+    
+    public static double getLoadGovernorReduceMspt() {
+        return Math.max(1.0, config.getDouble("performance.load_governor.reduce_mspt", 40.0));
+    }
+    
+    public static double getLoadGovernorShedMspt() {
+        return Math.max(1.0, config.getDouble("performance.load_governor.shed_mspt", 48.0));
+    }
+    
+    public static double getLoadGovernorRecoverMargin() {
+        return Math.max(0.0, config.getDouble("performance.load_governor.recover_margin", 5.0));
+    }
+    
+    public static int getLoadGovernorRecoverSeconds() {
+        return Math.max(0, config.getInt("performance.load_governor.recover_seconds", 10));
+    }
+    
+    public static List<String> getOptionalPassives() {
+        if (!config.contains("performance.load_governor.optional_passives")) {
+            return Collections.singletonList("magnet");
+        }
+        return config.getStringList("performance.load_governor.optional_passives");
+    }
+    
     public static boolean asyncLoad() {
         return config.getBoolean("performance.async_load", true);
     }
     
+    // ============================================
+    // MIGRATION GETTERS
+    // ============================================
+    
+    public static boolean isLegacyLoreFallbackEnabled() {
+        return config.getBoolean("migration.legacy_lore_fallback", true);
+    }
+    
+    public static boolean isLazyMigrationEnabled() {
+        return config.getBoolean("migration.lazy_migration", true);
+    }
+    
+    public static int getMigrationChunksPerTick() {
+        return config.getInt("migration.chunks_per_tick", 4);
+    }
+    
+    public static double getMigrationTickBudget() {
+        return config.getDouble("migration.tick_budget_ms", 2.0);
+    }
+    
     // ============================================
     // OTHER GETTERS
     // ============================================
@@ -222,6 +378,18 @@ public class ConfigManager {
         return config.getBoolean("verbose", false);
     }
     
+    public static boolean isDebugCategoryEnabled(String category) {
+        return config.getBoolean("logging.categories." + category, true);
+    }
+    
+    public static boolean isAsyncLogging() {
+        return config.getBoolean("logging.async", true);
+    }
+    
+    public static int getLogBufferSize() {
+        return config.getInt("logging.buffer_size", 4096);
+    }
+    
     public static boolean allowUnsafeEnchantments() {
         return config.getBoolean("allow_unsafe_enchantments", false);
     }
@@ -0,0 +1,170 @@
+package com.pandora.enchants.util;
+
+import com.pandora.enchants.engine.EnchantSet;
+
+import java.util.*;
+
+/**
+ * Bounded LRU cache of decoded enchants, keyed by item content
+ * (the raw enchant record, or the lore lines for legacy items).
+ * Because keys are content, a changed item simply produces a new key;
+ * explicit invalidation only frees the old slot early.
+ */
+public class EnchantCache {
+    
+    private static final Map<Key, Entry> cache = new LinkedHashMap<Key, Entry>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            if (size() > maxSize) {
+                evictions++;
+                return true;
+            }
+            return false;
+        }
+    };
+    
+    private static boolean enabled = true;
+    private static int maxSize = 2048;
+    private static long ttlMillis = 0;
+    
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+    private static long expirations;
+    
+    /**
+     * Reads cache settings from config.yml
+     */
+    public static synchronized void configure() {
+        enabled = ConfigManager.cacheEnchantments();
+        maxSize = Math.max(16, ConfigManager.getCacheSize());
+        ttlMillis = Math.max(0, ConfigManager.getCacheDuration()) * 1000L;
+        cache.clear();
+        Logger.debug(Logger.Category.STORAGE, () -> "Enchant cache " + (enabled ? "enabled" : "disabled")
+                + ", " + maxSize + " entries, " + (ttlMillis / 1000) + "s ttl");
+    }
+    
+    public static boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Gets cached enchants for a key, or null on a miss
+     */
+    public static synchronized EnchantSet get(Key key) {
+        Entry entry = cache.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (ttlMillis > 0 && System.currentTimeMillis() - entry.created > ttlMillis) {
+            cache.remove(key);
+            expirations++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.enchants;
+    }
+    
+    /**
+     * Stores decoded enchants (sets are immutable, so the instance is shared), returns it
+     */
+    public static synchronized EnchantSet put(Key key, EnchantSet enchants) {
+        cache.put(key, new Entry(enchants, System.currentTimeMillis()));
+        return enchants;
+    }
+    
+    /**
+     * Drops a single entry (called when an item is mutated)
+     */
+    public static synchronized void invalidate(Key key) {
+        if (key != null) {
+            cache.remove(key);
+        }
+    }
+    
+    /**
+     * Drops all entries (called on reload, since enchant instances are replaced)
+     */
+    public static synchronized void clear() {
+        cache.clear();
+    }
+    
+    /**
+     * Gets cache statistics as display lines
+     */
+    public static synchronized List<String> getStats() {
+        long lookups = hits + misses;
+        double hitRate = lookups == 0 ? 0 : hits * 100.0 / lookups;
+        
+        List<String> lines = new ArrayList<>();
+        lines.add("Enchant cache: " + (enabled ? "enabled" : "disabled") + ", " + cache.size() + "/" + maxSize
+                + " entries, ttl " + (ttlMillis == 0 ? "none" : (ttlMillis / 1000) + "s"));
+        lines.add("Hits: " + hits + ", misses: " + misses + String.format(" (%.1f%% hit rate)", hitRate));
+        lines.add("Evictions: " + evictions + ", expirations: " + expirations);
+        return lines;
+    }
+    
+    public static synchronized long getHits() {
+        return hits;
+    }
+    
+    public static synchronized long getMisses() {
+        return misses;
+    }
+    
+    public static synchronized long getEvictions() {
+        return evictions;
+    }
+    
+    /**
+     * Content fingerprint of an item's enchant data
+     */
+    public static final class Key {
+        private final byte[] record;
+        private final List<String> lore;
+        private final int hash;
+        
+        private Key(byte[] record, List<String> lore) {
+            this.record = record;
+            this.lore = lore;
+            this.hash = record != null ? Arrays.hashCode(record) : 31 * lore.hashCode() + 1;
+        }
+        
+        public static Key ofRecord(byte[] record) {
+            return new Key(record, null);
+        }
+        
+        public static Key ofLore(List<String> lore) {
+            return new Key(null, lore);
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            if (hash != other.hash) return false;
+            if (record != null) {
+                return Arrays.equals(record, other.record);
+            }
+            return other.record == null && lore.equals(other.lore);
+        }
+        
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+    
+    private static final class Entry {
+        private final EnchantSet enchants;
+        private final long created;
+        
+        private Entry(EnchantSet enchants, long created) {
+            this.enchants = enchants;
+            this.created = created;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.pandora.enchants.util;
+
+import com.pandora.enchants.PandoraEnchants;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Container;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * Converts legacy lore-encoded items to the PDC enchant record
+ * Items are converted lazily on first touch, or by an admin-triggered sweep
+ * that walks loaded chunks a few per tick within a time budget
+ * Scanned chunks are flagged in their PDC so later loads skip them
+ */
+public class EnchantMigration {
+    
+    private static final long REPORT_INTERVAL_MS = 5000;
+    // Chunks waiting for a lazy scan; the oldest are dropped past this and scanned on their next load
+    private static final int MAX_LAZY_CHUNKS = 1024;
+    
+    private static final Set<ChunkRef> lazyChunks = new LinkedHashSet<>();
+    private static final Deque<ChunkRef> sweepChunks = new ArrayDeque<>();
+    private static NamespacedKey migratedKey;
+    private static BukkitTask task;
+    
+    private static CommandSender sweepSender;
+    private static int sweepTotal;
+    private static int sweepProcessed;
+    private static long sweepItems;
+    private static long sweepStarted;
+    private static long lastReport;
+    private static long totalMigrated;
+    
+    /**
+     * Migrates a single item in place
+     */
+    public static boolean migrateItem(ItemStack item) {
+        if (EnchantmentStorage.migrate(item)) {
+            totalMigrated++;
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Migrates every item in an inventory, returns the number of converted items
+     */
+    public static int migrateInventory(Inventory inventory) {
+        if (inventory == null) return 0;
+        
+        int migrated = 0;
+        ItemStack[] contents = inventory.getContents();
+        for (int i = 0; i < contents.length; i++) {
+            ItemStack item = contents[i];
+            if (item != null && migrateItem(item)) {
+                inventory.setItem(i, item);
+                migrated++;
+            }
+        }
+        return migrated;
+    }
+    
+    /**
+     * Migrates a player's inventory and ender chest
+     */
+    public static int migratePlayer(Player player) {
+        return migrateInventory(player.getInventory()) + migrateInventory(player.getEnderChest());
+    }
+    
+    /**
+     * Queues the containers of a freshly loaded chunk for migration, unless it was scanned before
+     */
+    public static void queueChunk(Chunk chunk) {
+        if (isMigrated(chunk) || !lazyChunks.add(new ChunkRef(chunk))) return;
+        
+        if (lazyChunks.size() > MAX_LAZY_CHUNKS) {
+            pollLazy();
+        }
+        ensureTask();
+    }
+    
+    /**
+     * Whether a chunk's containers were already scanned
+     */
+    public static boolean isMigrated(Chunk chunk) {
+        return chunk.getPersistentDataContainer().has(getMigratedKey(), PersistentDataType.BYTE);
+    }
+    
+    private static NamespacedKey getMigratedKey() {
+        if (migratedKey == null) {
+            migratedKey = new NamespacedKey(PandoraEnchants.getInstance(), "migrated");
+        }
+        return migratedKey;
+    }
+    
+    /**
+     * Starts a background sweep over all loaded chunks and online players
+     */
+    public static boolean startSweep(CommandSender sender) {
+        if (isSweepRunning()) return false;
+        
+        sweepItems = 0;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            sweepItems += migratePlayer(player);
+        }
+        
+        for (World world : Bukkit.getWorlds()) {
+            for (Chunk chunk : world.getLoadedChunks()) {
+                if (!isMigrated(chunk)) {
+                    sweepChunks.add(new ChunkRef(chunk));
+                }
+            }
+        }
+        
+        sweepSender = sender;
+        sweepTotal = sweepChunks.size();
+        sweepProcessed = 0;
+        sweepStarted = System.currentTimeMillis();
+        lastReport = sweepStarted;
+        
+        Logger.info("Starting enchant migration sweep over " + sweepTotal + " loaded chunk(s)");
+        ensureTask();
+        return true;
+    }
+    
+    public static boolean isSweepRunning() {
+        return sweepSender != null;
+    }
+    
+    /**
+     * Gets a one-line progress summary
+     */
+    public static String getStatus() {
+        if (!isSweepRunning()) {
+            return "No sweep running (" + totalMigrated + " item(s) migrated since startup)";
+        }
+        int percent = sweepTotal == 0 ? 100 : (int) (sweepProcessed * 100L / sweepTotal);
+        return "Sweep " + percent + "% (" + sweepProcessed + "/" + sweepTotal + " chunks, "
+                + sweepItems + " item(s) migrated)";
+    }
+    
+    /**
+     * Cancels the migration task and drops all queued work
+     */
+    public static void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        lazyChunks.clear();
+        sweepChunks.clear();
+        sweepSender = null;
+    }
+    
+    private static void ensureTask() {
+        if (task != null) return;
+        task = Bukkit.getScheduler().runTaskTimer(PandoraEnchants.getInstance(), EnchantMigration::tick, 1L, 1L);
+    }
+    
+    private static void tick() {
+        long deadline = System.nanoTime() + (long) (ConfigManager.getMigrationTickBudget() * 1_000_000L);
+        int chunksLeft = Math.max(1, ConfigManager.getMigrationChunksPerTick());
+        
+        // Alternate lazy and sweep chunks so neither can starve the other
+        while (chunksLeft > 0 && (!lazyChunks.isEmpty() || !sweepChunks.isEmpty()) && System.nanoTime() < deadline) {
+            if (!lazyChunks.isEmpty()) {
+                migrateChunk(pollLazy());
+                chunksLeft--;
+            }
+            if (chunksLeft > 0 && !sweepChunks.isEmpty()) {
+                sweepItems += migrateChunk(sweepChunks.poll());
+                sweepProcessed++;
+                chunksLeft--;
+            }
+        }
+        
+        if (isSweepRunning()) {
+            if (sweepChunks.isEmpty()) {
+                finishSweep();
+            } else if (System.currentTimeMillis() - lastReport >= REPORT_INTERVAL_MS) {
+                lastReport = System.currentTimeMillis();
+                sweepSender.sendMessage(ColorUtil.format(ColorUtil.text("Migration: " + getStatus())));
+            }
+        }
+        
+        if (lazyChunks.isEmpty() && sweepChunks.isEmpty() && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+    
+    private static ChunkRef pollLazy() {
+        Iterator<ChunkRef> iterator = lazyChunks.iterator();
+        ChunkRef ref = iterator.next();
+        iterator.remove();
+        return ref;
+    }
+    
+    /**
+     * Scans a chunk's containers if it is still loaded, then flags it as migrated
+     */
+    private static int migrateChunk(ChunkRef ref) {
+        World world = Bukkit.getWorld(ref.world);
+        if (world == null || !world.isChunkLoaded(ref.x, ref.z)) return 0;
+        
+        Chunk chunk = world.getChunkAt(ref.x, ref.z);
+        if (isMigrated(chunk)) return 0;
+        
+        int migrated = 0;
+        try {
+            for (BlockState state : chunk.getTileEntities()) {
+                if (state instanceof Container) {
+                    migrated += migrateInventory(((Container) state).getInventory());
+                }
+            }
+            chunk.getPersistentDataContainer().set(getMigratedKey(), PersistentDataType.BYTE, (byte) 1);
+        } catch (Exception e) {
+            Logger.error("Error migrating chunk " + chunk.getX() + "," + chunk.getZ() + ": " + e.getMessage());
+            e.printStackTrace();
+        }
+        return migrated;
+    }
+    
+    private static void finishSweep() {
+        long seconds = (System.currentTimeMillis() - sweepStarted) / 1000;
+        String summary = "Migration sweep finished in " + seconds + "s: " + sweepProcessed + " chunk(s), "
+                + sweepItems + " item(s) migrated";
+        Logger.info(summary);
+        sweepSender.sendMessage(ColorUtil.format(ColorUtil.text(summary)));
+        sweepSender = null;
+    }
+    
+    /**
+     * Chunk position, so queued work does not keep unloaded chunks alive
+     */
+    private static final class ChunkRef {
+        private final UUID world;
+        private final int x;
+        private final int z;
+        
+        private ChunkRef(Chunk chunk) {
+            this.world = chunk.getWorld().getUID();
+            this.x = chunk.getX();
+            this.z = chunk.getZ();
+        }
+        
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof ChunkRef)) return false;
+            ChunkRef ref = (ChunkRef) other;
+            return x == ref.x && z == ref.z && world.equals(ref.world);
+        }
+        
+        @Override
+        public int hashCode() {
+            return (world.hashCode() * 31 + x) * 31 + z;
+        }
+    }
+}
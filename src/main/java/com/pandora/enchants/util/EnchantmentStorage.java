@@ -1,94 +1,82 @@
 package com.pandora.enchants.util;
 
+import com.pandora.enchants.engine.EnchantSet;
 import com.pandora.enchants.engine.PandoraEnchant;
 import com.pandora.enchants.engine.PandoraEnchantManager;
 import com.pandora.enchants.PandoraEnchants;
 import org.bukkit.ChatColor;
+import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 /**
- * Lore-based enchantment storage system
- * Stores enchantments in item lore for reliability
+ * Record-based enchantment storage system
+ * Enchants are stored as a compact binary record in the item's PersistentDataContainer,
+ * lore is display-only and regenerated from the record whenever it changes.
+ *
+ * Record layout: [version][count] then per enchant [nameLength][namespaced name (UTF-8)][level]
+ * Names are stored instead of numeric ids so records stay valid when enchantments.yml changes.
  */
 public class EnchantmentStorage {
     
-    private static final String ENCHANT_PREFIX = ChatColor.GRAY.toString();
+    private static final byte RECORD_VERSION = 1;
+    private static final int MAX_RECORD_VALUE = 255;
+    private static final String GODSET_BULLET = "• ";
+    private static final Map<String, Integer> ROMAN_VALUES = new HashMap<>();
+    
+    static {
+        for (int i = 1; i <= 10; i++) {
+            ROMAN_VALUES.put(PandoraEnchant.getLevelRoman(i), i);
+        }
+    }
+    
+    private static NamespacedKey recordKey;
     
     /**
-     * Gets the custom enchant on an item from lore
+     * Gets the PersistentDataContainer key holding the enchant record
      */
-    public static PandoraEnchant getEnchant(ItemStack item) {
-        if (item == null) {
-            Logger.debug("EnchantmentStorage.getEnchant: Item is null");
-            return null;
-        }
-        
-        if (!item.hasItemMeta()) {
-            Logger.debug("EnchantmentStorage.getEnchant: Item has no meta - " + item.getType());
-            return null;
+    public static NamespacedKey getRecordKey() {
+        if (recordKey == null) {
+            recordKey = new NamespacedKey(PandoraEnchants.getInstance(), "enchants");
         }
+        return recordKey;
+    }
+    
+    /**
+     * Gets all custom enchants on an item with their levels, in display order
+     * This is the single decode of an item; every other getter reads from it
+     */
+    public static EnchantSet getEnchants(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return EnchantSet.EMPTY;
         
         ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasLore()) {
-            Logger.debug("EnchantmentStorage.getEnchant: Item has no lore - " + item.getType());
-            return null;
-        }
+        if (meta == null) return EnchantSet.EMPTY;
         
-        List<String> lore = meta.getLore();
-        if (lore == null) {
-            Logger.debug("EnchantmentStorage.getEnchant: Lore is null");
-            return null;
-        }
-        
-        Logger.debug("EnchantmentStorage.getEnchant: Checking " + lore.size() + " lore lines for " + item.getType());
-        
-        for (String line : lore) {
-            String stripped = ChatColor.stripColor(line);
-            Logger.debug("  -> Checking lore line: '" + stripped + "'");
-            PandoraEnchant enchant = parseEnchantFromLore(stripped);
-            if (enchant != null) {
-                Logger.debug("  -> Found enchant: " + enchant.getNamespacedName());
-                return enchant;
-            }
-        }
-        
-        Logger.debug("EnchantmentStorage.getEnchant: No enchant found in lore for " + item.getType());
-        return null;
+        return readEnchants(meta);
+    }
+    
+    /**
+     * Gets the custom enchant on an item
+     */
+    public static PandoraEnchant getEnchant(ItemStack item) {
+        return getEnchants(item).first();
     }
     
     /**
      * Gets the level of a custom enchant on an item
      */
     public static int getEnchantLevel(ItemStack item, PandoraEnchant enchant) {
-        if (item == null || !item.hasItemMeta() || enchant == null) return 0;
-        
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasLore()) return 0;
-        
-        List<String> lore = meta.getLore();
-        if (lore == null) return 0;
-        
-        for (String line : lore) {
-            String stripped = ChatColor.stripColor(line);
-            if (stripped.contains(enchant.getName())) {
-                // Parse level from lore
-                String[] parts = stripped.split(" ");
-                if (parts.length > 1) {
-                    String levelStr = parts[parts.length - 1];
-                    return parseRoman(levelStr);
-                }
-                return 1;
-            }
-        }
-        
-        return 0;
+        return getEnchants(item).getLevel(enchant);
     }
     
     /**
-     * Applies a custom enchant to an item via lore
+     * Applies a custom enchant to an item and regenerates its enchant lore
      */
     public static void applyEnchant(ItemStack item, PandoraEnchant enchant, int level) {
         if (item == null || enchant == null || level < 1) return;
@@ -96,57 +84,27 @@ public class EnchantmentStorage {
         ItemMeta meta = item.getItemMeta();
         if (meta == null) return;
         
-        List<String> lore = meta.getLore();
-        if (lore == null) {
-            lore = new ArrayList<>();
-        } else {
-            lore = new ArrayList<>(lore);
-        }
+        boolean legacy = !hasRecord(meta);
+        Map<PandoraEnchant, Integer> previous = readEnchants(meta).toMap();
+        EnchantCache.invalidate(cacheKey(meta));
         
         // Check if this is a godset item (allows multiple enchants)
         boolean isGodset = com.pandora.enchants.util.GodSetManager.isGodsetItem(item);
         
-        if (!isGodset) {
-            // Remove existing custom enchant lore (one-enchant rule)
-            lore.removeIf(line -> {
-                String stripped = ChatColor.stripColor(line);
-                return parseEnchantFromLore(stripped) != null;
-            });
-        } else {
-            // For godset items, only remove if the same enchant already exists (upgrade)
-            String enchantName = enchant.getName();
-            lore.removeIf(line -> {
-                String stripped = ChatColor.stripColor(line);
-                PandoraEnchant existing = parseEnchantFromLore(stripped);
-                return existing != null && existing.getNamespacedName().equals(enchant.getNamespacedName());
-            });
-        }
-        
-        // Add new enchant lore
-        String enchantLore = ColorUtil.colorize("&7" + enchant.getName());
-        if (enchant.getMaxLevel() > 1) {
-            enchantLore += " " + PandoraEnchant.getLevelRoman(level);
-        }
-        
+        Map<PandoraEnchant, Integer> enchants = new LinkedHashMap<>();
         if (isGodset) {
-            // For godset items, find the "Enchantments:" line and add after it
-            int insertIndex = -1;
-            for (int i = 0; i < lore.size(); i++) {
-                if (lore.get(i).contains("Enchantments:")) {
-                    insertIndex = i + 1;
-                    break;
+            // For godset items, keep other enchants and upgrade the same one in place
+            for (Map.Entry<PandoraEnchant, Integer> entry : previous.entrySet()) {
+                if (!entry.getKey().getNamespacedName().equals(enchant.getNamespacedName())) {
+                    enchants.put(entry.getKey(), entry.getValue());
                 }
             }
-            if (insertIndex >= 0) {
-                lore.add(insertIndex, enchantLore);
-            } else {
-                lore.add(enchantLore);
-            }
-        } else {
-            lore.add(0, enchantLore); // Add at top for normal items
         }
+        // Normal items follow the one-enchant rule, so the new enchant replaces everything
+        enchants.put(enchant, level);
         
-        meta.setLore(lore);
+        writeRecord(meta, enchants);
+        meta.setLore(renderLore(meta, previous, legacy, enchants, isGodset));
         item.setItemMeta(meta);
         
         // Convert book to enchanted book if needed
@@ -165,20 +123,21 @@ public class EnchantmentStorage {
         if (item == null || !item.hasItemMeta()) return;
         
         ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasLore()) return;
+        if (meta == null) return;
         
-        List<String> lore = meta.getLore();
-        if (lore == null) return;
+        boolean legacy = !hasRecord(meta);
+        Map<PandoraEnchant, Integer> previous = readEnchants(meta).toMap();
+        if (previous.isEmpty() && legacy) return;
+        EnchantCache.invalidate(cacheKey(meta));
         
-        List<String> newLore = new ArrayList<>();
-        for (String line : lore) {
-            String stripped = ChatColor.stripColor(line);
-            if (parseEnchantFromLore(stripped) == null) {
-                newLore.add(line); // Keep non-enchant lore
-            }
-        }
+        // An empty record marks the item as checked so reads never fall back to lore
+        writeRecord(meta, Collections.emptyMap());
         
-        meta.setLore(newLore.isEmpty() ? null : newLore);
+        if (meta.hasLore() && meta.getLore() != null) {
+            List<String> newLore = new ArrayList<>(meta.getLore());
+            stripEnchantLore(newLore, previous, legacy);
+            meta.setLore(newLore.isEmpty() ? null : newLore);
+        }
         item.setItemMeta(meta);
     }
     
@@ -186,77 +145,259 @@ public class EnchantmentStorage {
      * Checks if item has any custom enchant
      */
     public static boolean hasCustomEnchant(ItemStack item) {
-        return getEnchant(item) != null;
+        return !getEnchants(item).isEmpty();
     }
     
     /**
      * Checks if item has a specific enchant by namespaced name
      */
     public static boolean hasEnchant(ItemStack item, String namespacedName) {
-        if (item == null || !item.hasItemMeta() || namespacedName == null) return false;
-        
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasLore()) return false;
-        
-        List<String> lore = meta.getLore();
-        if (lore == null) return false;
+        return getEnchant(item, namespacedName) != null;
+    }
+    
+    /**
+     * Gets a specific enchant from an item by namespaced name
+     */
+    public static PandoraEnchant getEnchant(ItemStack item, String namespacedName) {
+        if (namespacedName == null) return null;
         
-        for (String line : lore) {
-            String stripped = ChatColor.stripColor(line);
-            PandoraEnchant enchant = parseEnchantFromLore(stripped);
-            if (enchant != null && enchant.getNamespacedName().equalsIgnoreCase(namespacedName)) {
-                return true;
+        EnchantSet enchants = getEnchants(item);
+        for (int i = 0; i < enchants.size(); i++) {
+            if (enchants.getEnchantAt(i).getNamespacedName().equalsIgnoreCase(namespacedName)) {
+                return enchants.getEnchantAt(i);
             }
         }
         
-        return false;
+        return null;
     }
     
     /**
-     * Gets a specific enchant from an item by namespaced name
+     * Gets all enchants from an item
      */
-    public static PandoraEnchant getEnchant(ItemStack item, String namespacedName) {
-        if (item == null || !item.hasItemMeta() || namespacedName == null) return null;
+    public static List<PandoraEnchant> getAllEnchants(ItemStack item) {
+        return getEnchants(item).toList();
+    }
+    
+    /**
+     * Writes the enchant record to item meta (does not touch lore)
+     */
+    public static void writeRecord(ItemMeta meta, Map<PandoraEnchant, Integer> enchants) {
+        if (meta == null) return;
+        meta.getPersistentDataContainer().set(getRecordKey(), PersistentDataType.BYTE_ARRAY, encodeRecord(enchants));
+    }
+    
+    /**
+     * Checks if item meta already carries an enchant record
+     */
+    public static boolean hasRecord(ItemMeta meta) {
+        return meta != null && meta.getPersistentDataContainer().has(getRecordKey(), PersistentDataType.BYTE_ARRAY);
+    }
+    
+    /**
+     * Converts a legacy lore-encoded item to the record format
+     * Returns true if the item was changed (callers holding an inventory slot should write it back)
+     */
+    public static boolean migrate(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return false;
         
         ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasLore()) return null;
+        if (meta == null || !meta.hasLore() || hasRecord(meta)) return false;
         
-        List<String> lore = meta.getLore();
-        if (lore == null) return null;
+        // Last lore parse for this item - items without enchants are left untouched
+        EnchantSet enchants = parseLegacyLore(meta.getLore());
+        if (enchants.isEmpty()) return false;
         
-        for (String line : lore) {
-            String stripped = ChatColor.stripColor(line);
-            PandoraEnchant enchant = parseEnchantFromLore(stripped);
-            if (enchant != null && enchant.getNamespacedName().equalsIgnoreCase(namespacedName)) {
-                return enchant;
+        writeRecord(meta, enchants.toMap());
+        item.setItemMeta(meta);
+        return true;
+    }
+    
+    /**
+     * Formats the display lore line for an enchant
+     */
+    public static String formatLore(PandoraEnchant enchant, int level, boolean godset) {
+        String levelStr = enchant.getMaxLevel() > 1 ? " " + PandoraEnchant.getLevelRoman(level) : "";
+        if (godset) {
+            return ColorUtil.colorize("&7" + GODSET_BULLET + "&e" + enchant.getName() + levelStr);
+        }
+        return ColorUtil.colorize("&7" + enchant.getName() + levelStr);
+    }
+    
+    /**
+     * Reads enchants from the record, falling back to lore for items written before records existed
+     * Results come from the decoded-enchant cache when enabled and are immutable in that case
+     */
+    private static EnchantSet readEnchants(ItemMeta meta) {
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        byte[] record = container.get(getRecordKey(), PersistentDataType.BYTE_ARRAY);
+        if (record != null) {
+            if (!EnchantCache.isEnabled()) {
+                return decodeRecord(record);
             }
+            
+            EnchantCache.Key key = EnchantCache.Key.ofRecord(record);
+            EnchantSet cached = EnchantCache.get(key);
+            return cached != null ? cached : EnchantCache.put(key, decodeRecord(record));
+        }
+        
+        if (!ConfigManager.isLegacyLoreFallbackEnabled() || !meta.hasLore()) {
+            return EnchantSet.EMPTY;
+        }
+        
+        List<String> lore = meta.getLore();
+        if (lore == null) return EnchantSet.EMPTY;
+        if (!EnchantCache.isEnabled()) {
+            return parseLegacyLore(lore);
         }
         
+        EnchantCache.Key key = EnchantCache.Key.ofLore(lore);
+        EnchantSet cached = EnchantCache.get(key);
+        return cached != null ? cached : EnchantCache.put(key, parseLegacyLore(lore));
+    }
+    
+    /**
+     * Gets the cache key for the current enchant data of an item, or null if it has none
+     */
+    private static EnchantCache.Key cacheKey(ItemMeta meta) {
+        byte[] record = meta.getPersistentDataContainer().get(getRecordKey(), PersistentDataType.BYTE_ARRAY);
+        if (record != null) return EnchantCache.Key.ofRecord(record);
+        if (meta.hasLore() && meta.getLore() != null) return EnchantCache.Key.ofLore(meta.getLore());
         return null;
     }
     
     /**
-     * Gets all enchants from an item
+     * Encodes enchants into the binary record format
      */
-    public static List<PandoraEnchant> getAllEnchants(ItemStack item) {
-        List<PandoraEnchant> enchants = new ArrayList<>();
-        if (item == null || !item.hasItemMeta()) return enchants;
+    private static byte[] encodeRecord(Map<PandoraEnchant, Integer> enchants) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + enchants.size() * 16);
+        out.write(RECORD_VERSION);
+        out.write(Math.min(enchants.size(), MAX_RECORD_VALUE));
+        
+        int written = 0;
+        for (Map.Entry<PandoraEnchant, Integer> entry : enchants.entrySet()) {
+            if (written++ >= MAX_RECORD_VALUE) break;
+            
+            byte[] name = entry.getKey().getNamespacedName().getBytes(StandardCharsets.UTF_8);
+            out.write(name.length);
+            out.write(name, 0, name.length);
+            out.write(Math.max(1, Math.min(entry.getValue(), MAX_RECORD_VALUE)));
+        }
         
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasLore()) return enchants;
+        return out.toByteArray();
+    }
+    
+    /**
+     * Decodes a binary record, skipping enchants that no longer exist
+     */
+    private static EnchantSet decodeRecord(byte[] record) {
+        if (record.length < 2 || record[0] != RECORD_VERSION || record[1] == 0) {
+            return EnchantSet.EMPTY;
+        }
         
-        List<String> lore = meta.getLore();
-        if (lore == null) return enchants;
+        PandoraEnchantManager manager = PandoraEnchants.getInstance().getEnchantManager();
+        if (manager == null) return EnchantSet.EMPTY;
+        
+        int count = record[1] & 0xFF;
+        EnchantSet.Builder enchants = manager.newEnchantSet();
+        int pos = 2;
+        
+        for (int i = 0; i < count; i++) {
+            if (pos >= record.length) break;
+            int nameLength = record[pos++] & 0xFF;
+            if (pos + nameLength >= record.length) break;
+            
+            String name = new String(record, pos, nameLength, StandardCharsets.UTF_8);
+            pos += nameLength;
+            int level = record[pos++] & 0xFF;
+            
+            PandoraEnchant enchant = manager.getByNamespacedName(name);
+            if (enchant != null) {
+                enchants.put(enchant, level);
+            } else {
+                Logger.debug(Logger.Category.STORAGE, () -> "Skipping unknown enchant '" + name + "' in item record");
+            }
+        }
+        
+        return enchants.build();
+    }
+    
+    /**
+     * Parses enchants from lore (legacy items without a record)
+     */
+    private static EnchantSet parseLegacyLore(List<String> lore) {
+        PandoraEnchantManager manager = PandoraEnchants.getInstance().getEnchantManager();
+        if (manager == null) return EnchantSet.EMPTY;
         
+        EnchantSet.Builder enchants = manager.newEnchantSet();
         for (String line : lore) {
             String stripped = ChatColor.stripColor(line);
             PandoraEnchant enchant = parseEnchantFromLore(stripped);
-            if (enchant != null) {
-                enchants.add(enchant);
+            if (enchant != null && !enchants.contains(enchant)) {
+                String[] parts = stripped.trim().split(" ");
+                enchants.put(enchant, parts.length > 1 ? parseRoman(parts[parts.length - 1]) : 1);
+            }
+        }
+        
+        return enchants.build();
+    }
+    
+    /**
+     * Rebuilds item lore: old enchant lines are removed and lines for the new record are inserted
+     */
+    private static List<String> renderLore(ItemMeta meta, Map<PandoraEnchant, Integer> previous, boolean legacy,
+                                           Map<PandoraEnchant, Integer> enchants, boolean godset) {
+        List<String> lore = meta.hasLore() && meta.getLore() != null
+                ? new ArrayList<>(meta.getLore()) : new ArrayList<>();
+        stripEnchantLore(lore, previous, legacy);
+        
+        List<String> enchantLines = new ArrayList<>(enchants.size());
+        for (Map.Entry<PandoraEnchant, Integer> entry : enchants.entrySet()) {
+            enchantLines.add(formatLore(entry.getKey(), entry.getValue(), godset));
+        }
+        
+        if (godset) {
+            // For godset items, find the "Enchantments:" line and add after it
+            int insertIndex = -1;
+            for (int i = 0; i < lore.size(); i++) {
+                if (lore.get(i).contains("Enchantments:")) {
+                    insertIndex = i + 1;
+                    break;
+                }
+            }
+            if (insertIndex >= 0) {
+                lore.addAll(insertIndex, enchantLines);
+            } else {
+                lore.addAll(enchantLines);
             }
+        } else {
+            lore.addAll(0, enchantLines); // Add at top for normal items
+        }
+        
+        return lore;
+    }
+    
+    /**
+     * Removes the lore lines generated for the given enchants
+     */
+    private static void stripEnchantLore(List<String> lore, Map<PandoraEnchant, Integer> enchants, boolean legacy) {
+        if (legacy) {
+            // Legacy lore has no exact format, so fall back to parsing every line
+            lore.removeIf(line -> parseEnchantFromLore(ChatColor.stripColor(line)) != null);
+            return;
         }
         
-        return enchants;
+        Set<String> generated = new HashSet<>();
+        for (Map.Entry<PandoraEnchant, Integer> entry : enchants.entrySet()) {
+            generated.add(ChatColor.stripColor(formatLore(entry.getKey(), entry.getValue(), false)).toLowerCase());
+        }
+        
+        lore.removeIf(line -> {
+            String stripped = ChatColor.stripColor(line).trim();
+            if (stripped.startsWith(GODSET_BULLET)) {
+                stripped = stripped.substring(GODSET_BULLET.length());
+            }
+            return generated.contains(stripped.toLowerCase());
+        });
     }
     
     /**
@@ -279,11 +420,7 @@ public class EnchantmentStorage {
         String possibleRoman = parts.length > 1 ? parts[parts.length - 1].toUpperCase() : null;
         
         // Check if last part is a roman numeral
-        boolean lastIsRoman = possibleRoman != null && 
-            (possibleRoman.equals("I") || possibleRoman.equals("II") || possibleRoman.equals("III") ||
-             possibleRoman.equals("IV") || possibleRoman.equals("V") || possibleRoman.equals("VI") ||
-             possibleRoman.equals("VII") || possibleRoman.equals("VIII") || possibleRoman.equals("IX") ||
-             possibleRoman.equals("X"));
+        boolean lastIsRoman = possibleRoman != null && ROMAN_VALUES.containsKey(possibleRoman);
         
         int nameEnd = lastIsRoman ? parts.length - 1 : parts.length;
         for (int i = 0; i < nameEnd; i++) {
@@ -294,82 +431,18 @@ public class EnchantmentStorage {
         String enchantName = nameBuilder.toString().trim();
         if (enchantName.isEmpty()) return null;
         
-        // Try to find enchant by name (case-insensitive)
+        // Single index probe; fuzzy matches are resolved once and memoized by the manager
         PandoraEnchantManager manager = PandoraEnchants.getInstance().getEnchantManager();
-        if (manager == null) {
-            Logger.debug("parseEnchantFromLore: EnchantManager is null!");
-            return null;
-        }
-        
-        Collection<PandoraEnchant> allEnchants = manager.getAllEnchantments();
-        Logger.debug("parseEnchantFromLore: Checking " + allEnchants.size() + " enchants for name: '" + enchantName + "'");
-        
-        // Normalize the enchant name for matching
-        String normalizedEnchantName = enchantName.toLowerCase().replaceAll(" ", "_").replaceAll("-", "_");
-        
-        for (PandoraEnchant enchant : allEnchants) {
-            if (enchant == null) continue;
-            
-            String enchantDisplayName = enchant.getName().toLowerCase();
-            String enchantNamespaced = enchant.getNamespacedName().toLowerCase();
-            String normalizedInput = enchantName.toLowerCase();
-            
-            // Direct match on display name
-            if (enchantDisplayName.equals(normalizedInput)) {
-                Logger.debug("  -> Display name match: " + enchant.getNamespacedName());
-                return enchant;
-            }
-            
-            // Match against namespaced name
-            if (enchantNamespaced.equals(normalizedEnchantName)) {
-                Logger.debug("  -> Namespaced match: " + enchant.getNamespacedName());
-                return enchant;
-            }
-            
-            // Match display name with spaces converted
-            if (enchantDisplayName.replace(" ", "_").equals(normalizedEnchantName)) {
-                Logger.debug("  -> Converted display match: " + enchant.getNamespacedName());
-                return enchant;
-            }
-            
-            // Check if input starts with enchant display name (for cases with roman numerals)
-            if (normalizedInput.startsWith(enchantDisplayName) || 
-                normalizedInput.startsWith(enchantNamespaced)) {
-                Logger.debug("  -> Starts with match: " + enchant.getNamespacedName());
-                return enchant;
-            }
-            
-            // Check if enchant name is contained in input (fuzzy match)
-            if (normalizedInput.contains(enchantDisplayName) || 
-                normalizedInput.contains(enchantNamespaced) ||
-                enchantDisplayName.contains(normalizedInput) ||
-                enchantNamespaced.contains(normalizedEnchantName)) {
-                Logger.debug("  -> Contains match: " + enchant.getNamespacedName());
-                return enchant;
-            }
-        }
+        if (manager == null) return null;
         
-        Logger.debug("parseEnchantFromLore: No match found for: '" + enchantName + "'");
-        return null;
+        return manager.resolveLoreName(enchantName);
     }
     
     /**
      * Parses roman numeral to int
      */
     private static int parseRoman(String roman) {
-        Map<String, Integer> romanMap = new HashMap<>();
-        romanMap.put("I", 1);
-        romanMap.put("II", 2);
-        romanMap.put("III", 3);
-        romanMap.put("IV", 4);
-        romanMap.put("V", 5);
-        romanMap.put("VI", 6);
-        romanMap.put("VII", 7);
-        romanMap.put("VIII", 8);
-        romanMap.put("IX", 9);
-        romanMap.put("X", 10);
-        
-        return romanMap.getOrDefault(roman.toUpperCase(), 1);
+        return ROMAN_VALUES.getOrDefault(roman.toUpperCase(), 1);
     }
     
     /**
@@ -393,4 +466,3 @@ public class EnchantmentStorage {
         }
     }
 }
-
@@ -1,23 +1,43 @@
 package com.pandora.enchants.util;
 
 import com.pandora.enchants.PandoraEnchants;
+import org.bukkit.Bukkit;
 import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Manages configuration files for the plugin
+ * Saves are snapshotted to a string on the calling thread and written by a single I/O thread;
+ * saves within performance.save_debounce_ms of each other become one write, every write goes to
+ * a temp file that is then moved over the original, and flush() (on disable) writes what is left
  */
 public class FileManager {
     
     private static final Map<String, FileConfiguration> configs = new HashMap<>();
     private static final Map<String, File> files = new HashMap<>();
     
+    // Latest snapshot not written yet, per file name
+    private static final Map<String, String> pending = new ConcurrentHashMap<>();
+    private static final Object writeLock = new Object();
+    private static ScheduledThreadPoolExecutor io;
+    private static boolean closed;
+    
     /**
      * Loads a configuration file
      */
@@ -49,30 +69,77 @@ public class FileManager {
     
     /**
      * Saves a configuration file
+     * The content is captured now, the write happens on the I/O thread after the debounce window
      */
     public static void saveConfig(String name) {
         FileConfiguration config = configs.get(name);
         File file = files.get(name);
+        if (config == null || file == null) return;
         
-        if (config != null && file != null) {
-            try {
-                config.save(file);
-            } catch (IOException e) {
-                Logger.error("Error saving config file: " + name);
-                e.printStackTrace();
-            }
+        // A newer snapshot replaces one still waiting; only the first save of a window schedules a write
+        if (pending.put(name, config.saveToString()) != null) return;
+        
+        ScheduledThreadPoolExecutor executor = io();
+        if (executor == null) {
+            write(name, file);
+            return;
         }
+        executor.schedule(() -> write(name, file), ConfigManager.getSaveDebounceMillis(), TimeUnit.MILLISECONDS);
     }
     
     /**
-     * Reloads a configuration file
+     * Reloads a configuration file on the calling thread (a pending save of it is written first)
      */
     public static void reloadConfig(String name) {
+        File file = files.get(name);
+        if (file != null) {
+            write(name, file);
+        }
         configs.remove(name);
         files.remove(name);
         loadConfig(name);
     }
     
+    /**
+     * Reloads a configuration file without blocking the server thread
+     * A pending save of it is written and the file parsed on the I/O thread; then runs afterwards
+     * on the server thread (right away on the calling thread if the file was never loaded or the
+     * I/O thread is stopped, never if the plugin is disabled meanwhile)
+     * then gets true when the new configuration was swapped in, false when the file could not be
+     * parsed and the loaded configuration was kept
+     */
+    public static void reloadConfig(String name, Consumer<Boolean> then) {
+        File file = files.get(name);
+        if (file == null) {
+            reloadConfig(name);
+            then.accept(true);
+            return;
+        }
+        
+        ScheduledThreadPoolExecutor executor = io();
+        if (executor == null) {
+            write(name, file);
+            swap(name, parse(name, file), then);
+            return;
+        }
+        
+        executor.execute(() -> {
+            write(name, file);
+            FileConfiguration loaded = parse(name, file);
+            
+            PandoraEnchants plugin = PandoraEnchants.getInstance();
+            if (plugin == null || !plugin.isEnabled()) return;
+            Bukkit.getScheduler().runTask(plugin, () -> swap(name, loaded, then));
+        });
+    }
+    
+    private static void swap(String name, FileConfiguration loaded, Consumer<Boolean> then) {
+        if (loaded != null) {
+            configs.put(name, loaded);
+        }
+        then.accept(loaded != null);
+    }
+    
     /**
      * Gets a configuration file
      */
@@ -82,5 +149,89 @@ public class FileManager {
         }
         return configs.get(name);
     }
+    
+    /**
+     * Writes every pending save and stops the I/O thread (on disable)
+     * Saves made afterwards are written on the calling thread
+     */
+    public static void flush() {
+        ScheduledThreadPoolExecutor executor;
+        synchronized (FileManager.class) {
+            executor = io;
+            io = null;
+            closed = true;
+        }
+        
+        if (executor != null) {
+            // Waiting debounced writes are dropped here and done below, a write in progress finishes
+            executor.shutdown();
+            try {
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        for (String name : new ArrayList<>(pending.keySet())) {
+            File file = files.get(name);
+            if (file != null) {
+                write(name, file);
+            }
+        }
+    }
+    
+    private static synchronized ScheduledThreadPoolExecutor io() {
+        if (io == null && !closed) {
+            io = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "PandoraEnchants-IO");
+                thread.setDaemon(true);
+                return thread;
+            });
+            io.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        }
+        return io;
+    }
+    
+    /**
+     * Writes the pending snapshot of a file, if any
+     * The snapshot is taken under the lock so a newer one is never overwritten by an older one
+     */
+    private static void write(String name, File file) {
+        synchronized (writeLock) {
+            String data = pending.remove(name);
+            if (data == null) return;
+            
+            try {
+                writeAtomically(file.toPath(), data);
+            } catch (IOException e) {
+                Logger.error("Error saving config file: " + name);
+                e.printStackTrace();
+            }
+        }
+    }
+    
+    private static void writeAtomically(Path target, String data) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        Files.write(temp, data.getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    private static FileConfiguration parse(String name, File file) {
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.load(file);
+            return config;
+        } catch (IOException | InvalidConfigurationException e) {
+            Logger.error("Error loading config file: " + name);
+            e.printStackTrace();
+            return null;
+        }
+    }
 }
-
@@ -10,7 +10,9 @@ import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Manages godset creation - allows multiple enchants on godset items
@@ -144,18 +146,17 @@ public class GodSetManager {
         lore.add("");
         lore.add(ColorUtil.colorize("&6&lEnchantments:"));
         
-        // Apply all enchants
+        // Apply all enchants (godset items bypass the one-enchant rule)
+        Map<PandoraEnchant, Integer> enchants = new LinkedHashMap<>();
         for (String enchantName : enchantNames) {
             PandoraEnchant enchant = enchantManager.getEnchantment(enchantName);
             if (enchant != null) {
                 int level = enchant.getMaxLevel();
-                String levelStr = enchant.getMaxLevel() > 1 ? " " + PandoraEnchant.getLevelRoman(level) : "";
-                lore.add(ColorUtil.colorize("&7• &e" + enchant.getName() + levelStr));
-                
-                // Apply enchant using special godset method (bypasses one-enchant rule)
-                applyGodsetEnchant(item, enchant, level);
+                lore.add(EnchantmentStorage.formatLore(enchant, level, true));
+                enchants.put(enchant, level);
             }
         }
+        EnchantmentStorage.writeRecord(meta, enchants);
         
         lore.add("");
         lore.add(ColorUtil.colorize("&7This item can have multiple"));
@@ -166,6 +167,7 @@ public class GodSetManager {
         
         // Add max durability and unbreakable
         meta.setUnbreakable(true);
+        meta.addItemFlags(org.bukkit.inventory.ItemFlag.HIDE_ENCHANTS);
         
         // Add vanilla enchants for extra power
         if (material.name().contains("SWORD")) {
@@ -188,56 +190,6 @@ public class GodSetManager {
         return item;
     }
     
-    /**
-     * Applies enchant to godset item (bypasses one-enchant rule)
-     */
-    private static void applyGodsetEnchant(ItemStack item, PandoraEnchant enchant, int level) {
-        if (item == null || enchant == null) return;
-        
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null) return;
-        
-        List<String> lore = meta.getLore();
-        if (lore == null) {
-            lore = new ArrayList<>();
-        } else {
-            lore = new ArrayList<>(lore);
-        }
-        
-        // Add enchant to lore (godset items can have multiple)
-        String enchantLore = ColorUtil.colorize("&7" + enchant.getName());
-        if (enchant.getMaxLevel() > 1) {
-            enchantLore += " " + PandoraEnchant.getLevelRoman(level);
-        }
-        
-        // Insert after the "Enchantments:" line
-        int insertIndex = -1;
-        for (int i = 0; i < lore.size(); i++) {
-            if (lore.get(i).contains("Enchantments:")) {
-                insertIndex = i + 1;
-                break;
-            }
-        }
-        
-        if (insertIndex >= 0) {
-            lore.add(insertIndex, enchantLore);
-        } else {
-            lore.add(enchantLore);
-        }
-        
-        meta.setLore(lore);
-        item.setItemMeta(meta);
-        
-        // Add glow
-        try {
-            meta.addEnchant(Enchantment.MENDING, 1, true);
-            meta.addItemFlags(org.bukkit.inventory.ItemFlag.HIDE_ENCHANTS);
-            item.setItemMeta(meta);
-        } catch (Exception e) {
-            // Ignore
-        }
-    }
-    
     /**
      * Checks if an item is a godset item
      */
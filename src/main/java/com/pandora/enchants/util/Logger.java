@@ -1,30 +1,212 @@
 package com.pandora.enchants.util;
 
-import com.pandora.enchants.PandoraEnchants;
 import org.bukkit.Bukkit;
 
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 /**
  * Centralized logging utility
+ * Debug messages are gated by ConfigManager.isVerbose() and per-category toggles; use the
+ * Supplier overloads on hot paths so disabled messages are never built.
+ * When async logging is on, records go through a bounded buffer drained by a daemon thread
  */
 public class Logger {
     
+    /**
+     * Debug categories, toggled under logging.categories in config.yml
+     */
+    public enum Category {
+        GENERAL, STORAGE, EFFECTS, GUI;
+        
+        private final String key = name().toLowerCase();
+    }
+    
+    private static final String PREFIX = "[PandoraEnchants] ";
+    private static final String DEBUG_PREFIX = "[PandoraEnchants-DEBUG] ";
+    
+    private static volatile boolean verbose = false;
+    private static volatile boolean[] categories = allEnabled();
+    
+    private static volatile BlockingQueue<Record> buffer;
+    private static volatile Thread writer;
+    private static final AtomicLong dropped = new AtomicLong();
+    
+    /**
+     * Applies the logging settings (called by ConfigManager.load)
+     */
+    public static synchronized void configure() {
+        verbose = ConfigManager.isVerbose();
+        
+        boolean[] enabled = new boolean[Category.values().length];
+        for (Category category : Category.values()) {
+            enabled[category.ordinal()] = category == Category.GENERAL
+                    || ConfigManager.isDebugCategoryEnabled(category.key);
+        }
+        categories = enabled;
+        
+        if (ConfigManager.isAsyncLogging()) {
+            startWriter(ConfigManager.getLogBufferSize());
+        } else {
+            stopWriter();
+        }
+    }
+    
+    /**
+     * Stops the async writer and flushes anything still buffered (called on disable)
+     */
+    public static synchronized void shutdown() {
+        stopWriter();
+    }
+    
+    public static boolean isDebugEnabled() {
+        return verbose;
+    }
+    
+    public static boolean isDebugEnabled(Category category) {
+        return verbose && categories[category.ordinal()];
+    }
+    
     public static void info(String message) {
-        Bukkit.getLogger().info("[PandoraEnchants] " + message);
+        log(Level.INFO, PREFIX, message);
     }
     
     public static void warn(String message) {
-        Bukkit.getLogger().warning("[PandoraEnchants] " + message);
+        log(Level.WARNING, PREFIX, message);
     }
     
     public static void error(String message) {
-        Bukkit.getLogger().log(Level.SEVERE, "[PandoraEnchants] " + message);
+        log(Level.SEVERE, PREFIX, message);
     }
     
     public static void debug(String message) {
-        Bukkit.getLogger().info("[PandoraEnchants-DEBUG] " + message);
+        if (verbose) {
+            log(Level.INFO, DEBUG_PREFIX, message);
+        }
+    }
+    
+    /**
+     * Lazy debug message, only built when verbose is on
+     */
+    public static void debug(Supplier<String> message) {
+        if (verbose) {
+            log(Level.INFO, DEBUG_PREFIX, message.get());
+        }
+    }
+    
+    public static void debug(Category category, String message) {
+        if (isDebugEnabled(category)) {
+            log(Level.INFO, DEBUG_PREFIX, message);
+        }
+    }
+    
+    /**
+     * Lazy debug message, only built when verbose and the category are on
+     */
+    public static void debug(Category category, Supplier<String> message) {
+        if (isDebugEnabled(category)) {
+            log(Level.INFO, DEBUG_PREFIX, message.get());
+        }
+    }
+    
+    private static void log(Level level, String prefix, String message) {
+        BlockingQueue<Record> queue = buffer;
+        if (queue == null) {
+            write(level, prefix + message);
+            return;
+        }
+        
+        // Never block the caller; a full buffer drops the record and reports it later
+        if (!queue.offer(new Record(level, prefix + message))) {
+            dropped.incrementAndGet();
+        }
+    }
+    
+    private static void write(Level level, String message) {
+        Bukkit.getLogger().log(level, message);
+    }
+    
+    private static void startWriter(int size) {
+        int capacity = Math.max(64, size);
+        if (buffer != null && buffer.remainingCapacity() + buffer.size() == capacity) return;
+        stopWriter();
+        
+        BlockingQueue<Record> queue = new ArrayBlockingQueue<>(capacity);
+        Thread thread = new Thread(() -> drain(queue), "PandoraEnchants-Logger");
+        thread.setDaemon(true);
+        
+        buffer = queue;
+        writer = thread;
+        thread.start();
+    }
+    
+    private static void stopWriter() {
+        BlockingQueue<Record> queue = buffer;
+        Thread thread = writer;
+        if (queue == null) return;
+        
+        // New records go straight to the console from here on
+        buffer = null;
+        writer = null;
+        thread.interrupt();
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush(queue);
+    }
+    
+    private static void drain(BlockingQueue<Record> queue) {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Record record = queue.poll(1, TimeUnit.SECONDS);
+                if (record != null) {
+                    write(record.level, record.message);
+                }
+                reportDropped();
+            } catch (InterruptedException e) {
+                break;
+            } catch (Exception e) {
+                // Keep the writer alive; a broken handler must not stop later records
+                e.printStackTrace();
+            }
+        }
+    }
+    
+    private static void flush(BlockingQueue<Record> queue) {
+        Record record;
+        while ((record = queue.poll()) != null) {
+            write(record.level, record.message);
+        }
+        reportDropped();
+    }
+    
+    private static void reportDropped() {
+        long count = dropped.getAndSet(0);
+        if (count > 0) {
+            write(Level.WARNING, PREFIX + "Log buffer full, dropped " + count + " message(s)");
+        }
+    }
+    
+    private static boolean[] allEnabled() {
+        boolean[] enabled = new boolean[Category.values().length];
+        Arrays.fill(enabled, true);
+        return enabled;
+    }
+    
+    private static final class Record {
+        private final Level level;
+        private final String message;
+        
+        private Record(Level level, String message) {
+            this.level = level;
+            this.message = message;
+        }
     }
 }
-
-
@@ -0,0 +1,91 @@
+package com.pandora.enchants.util;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing set of long values (packed block coordinates...) without boxing
+ * Not thread safe - meant for main-thread bookkeeping
+ */
+public class LongHashSet {
+    
+    private static final float LOAD_FACTOR = 0.6f;
+    
+    private long[] values;
+    private boolean[] used;
+    private int size;
+    private int mask;
+    
+    public LongHashSet() {
+        this(16);
+    }
+    
+    public LongHashSet(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expected / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    public boolean contains(long value) {
+        int slot = mix(value) & mask;
+        while (used[slot]) {
+            if (values[slot] == value) return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+    
+    /**
+     * Adds a value, returning false if it was already present
+     */
+    public boolean add(long value) {
+        int slot = mix(value) & mask;
+        while (used[slot]) {
+            if (values[slot] == value) return false;
+            slot = (slot + 1) & mask;
+        }
+        
+        used[slot] = true;
+        values[slot] = value;
+        if (++size > (mask + 1) * LOAD_FACTOR) {
+            rehash((mask + 1) << 1);
+        }
+        return true;
+    }
+    
+    public void clear() {
+        if (size == 0) return;
+        Arrays.fill(used, false);
+        size = 0;
+    }
+    
+    private void allocate(int capacity) {
+        values = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+    
+    private void rehash(int capacity) {
+        long[] oldValues = values;
+        boolean[] oldUsed = used;
+        
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldUsed[i]) {
+                add(oldValues[i]);
+            }
+        }
+    }
+    
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}